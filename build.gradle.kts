@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -34,6 +37,14 @@ java {
     sourceCompatibility = JavaVersion.VERSION_17
 }
 
+// 실행 JVM 버전 (가상 스레드 사용 시 21 : ./gradlew bootRun -PruntimeJavaVersion=21)
+val runtimeJavaLauncher = javaToolchains.launcherFor {
+    languageVersion = providers.gradleProperty("runtimeJavaVersion").orElse("17").map(JavaLanguageVersion::of)
+}
+tasks.withType<JavaExec>().configureEach {
+    javaLauncher = runtimeJavaLauncher
+}
+
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
@@ -45,8 +56,90 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+
+// fast startup tasks (AOT, CDS, native image)
+// - -Paot : Spring AOT 로 빈 정의를 빌드 시점에 생성해 bootJar/CDS 실행 디렉터리에 포함 (실행 시 -Dspring.aot.enabled=true)
+//   @ConditionalOnProperty 로 고르는 빈(point.concurrency.mode, point.storage.type 등)은 빌드할 때의 설정으로 고정됨
+// - ./gradlew cdsArchive [-Paot] : build/cds 에 application.jar + lib/ 를 만들고 한 번 기동해 CDS 아카이브(application.jsa) 생성
+// - ./gradlew nativeImage -Paot : GRAALVM_HOME 의 native-image 로 네이티브 실행 파일(build/native/point-service) 생성
+// - ./gradlew startupBenchmark [-Paot] [-Pstartup.runs=5] : 기동 시간, 첫 요청 지연 측정 (StartupBenchmark)
+val aotEnabled = providers.gradleProperty("aot").isPresent
+if (aotEnabled) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+val mainClassName = "io.hhplus.tdd.TddApplication"
+val cdsDirectory = layout.buildDirectory.dir("cds")
+val aotJvmArgs = if (aotEnabled) listOf("-Dspring.aot.enabled=true") else listOf()
+
+// CDS 는 jar 안의 jar(bootJar) 를 지원하지 않으므로 의존성을 lib/ 에 풀어 둔 실행 디렉터리 사용
+val cdsLibs by tasks.registering(Sync::class) {
+    from(configurations.runtimeClasspath)
+    into(cdsDirectory.map { it.dir("lib") })
+}
+val cdsJar by tasks.registering(Jar::class) {
+    dependsOn(cdsLibs)
+    archiveFileName = "application.jar"
+    destinationDirectory = cdsDirectory
+    from(sourceSets.main.get().output)
+    if (aotEnabled) {
+        from(sourceSets["aot"].output)
+    }
+    val classPath = configurations.runtimeClasspath.map { files -> files.joinToString(" ") { "lib/${it.name}" } }
+    manifest {
+        attributes("Main-Class" to mainClassName, "Class-Path" to classPath)
+    }
+}
+val cdsArchive by tasks.registering(Exec::class) {
+    dependsOn(cdsJar)
+    workingDir(cdsDirectory)
+    // 컨텍스트 refresh 직후 종료하면서 그때까지 로딩한 클래스를 아카이브에 저장
+    executable(runtimeJavaLauncher.map { it.executablePath.asFile.absolutePath }.get())
+    args(listOf("-XX:ArchiveClassesAtExit=application.jsa", "-Xlog:cds=error", "-Dspring.context.exit=onRefresh") + aotJvmArgs + listOf("-jar", "application.jar"))
+    inputs.files(cdsJar)
+    inputs.property("aot", aotEnabled)
+    outputs.file(cdsDirectory.map { it.file("application.jsa") })
+}
+val startupBenchmark by tasks.registering(JavaExec::class) {
+    dependsOn(cdsArchive)
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "io.hhplus.tdd.benchmark.StartupBenchmark"
+    val runs = providers.gradleProperty("startup.runs").orElse("5")
+    args(cdsDirectory.get().asFile.absolutePath, runtimeJavaLauncher.get().executablePath.asFile.absolutePath,
+        runs.get(), aotEnabled.toString())
+}
+val nativeImage by tasks.registering(Exec::class) {
+    dependsOn(cdsJar)
+    onlyIf("-Paot 필요") { aotEnabled }
+    val nativeDirectory = layout.buildDirectory.dir("native")
+    doFirst { nativeDirectory.get().asFile.mkdirs() }
+    workingDir(cdsDirectory)
+    val graalVmHome = providers.environmentVariable("GRAALVM_HOME").orElse("")
+    executable(graalVmHome.map { if (it.isEmpty()) "native-image" else "$it/bin/native-image" }.get())
+    // AOT 가 생성한 reflection/resource 힌트(META-INF/native-image)는 application.jar 에 포함
+    args("--no-fallback", "-o", nativeDirectory.get().file("point-service").asFile.absolutePath,
+        "-cp", "application.jar", mainClassName)
+}
+// benchmark tasks (./gradlew jmh)
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    fork = 1
+    warmupIterations = 2
+    iterations = 3
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    // 특정 벤치마크만 실행 : ./gradlew jmh -Pjmh.includes=PointServiceBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+    // 프로파일러 추가 (요청당 할당량 : -Pjmh.profilers=gc)
+    providers.gradleProperty("jmh.profilers").orNull?.let { profilers = it.split(",") }
+}
+
 // test tasks
 tasks.test {
+    javaLauncher = runtimeJavaLauncher
     ignoreFailures = true
     useJUnitPlatform()
+    // BENCHMARK=true 로 실행하는 대용량 측정 테스트는 기본 힙(512MB)으로 부족
+    if (System.getenv("BENCHMARK") == "true") {
+        maxHeapSize = "3g"
+    }
 }
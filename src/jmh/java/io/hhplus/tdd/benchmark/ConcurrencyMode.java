@@ -0,0 +1,57 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.concurrency.CombiningPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.LockPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.OptimisticPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.ShardedPointUpdateExecutor;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+/**
+ * 벤치마크에서 비교할 포인트 갱신 방식 (point.concurrency.mode 와 대응)
+ */
+public enum ConcurrencyMode {
+
+    LOCK {
+        @Override
+        PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+            return new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics));
+        }
+    },
+    LOCK_COMBINING {
+        @Override
+        PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+            // point.concurrency.write-combining=true
+            return new CombiningPointUpdateExecutor(LOCK.executor(userPointRepository, pointMetrics), pointMetrics);
+        }
+    },
+    OPTIMISTIC {
+        @Override
+        PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+            return new OptimisticPointUpdateExecutor(userPointRepository, pointMetrics);
+        }
+    },
+    SHARDED {
+        @Override
+        PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+            // 샤드 수는 CPU 코어 수
+            ShardedPointUpdateExecutor executor = new ShardedPointUpdateExecutor(userPointRepository, pointMetrics, 0);
+            executor.start();
+            return executor;
+        }
+    };
+
+    abstract PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics);
+
+    /**
+     * 실행기가 사용하는 스레드 종료
+     * @param executor
+     */
+    static void shutdown(PointUpdateExecutor executor) throws InterruptedException {
+        if (executor instanceof ShardedPointUpdateExecutor shardedExecutor) {
+            shardedExecutor.shutdown();
+        }
+    }
+}
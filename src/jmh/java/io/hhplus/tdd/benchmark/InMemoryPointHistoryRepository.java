@@ -0,0 +1,49 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 포인트 이력 저장소
+ * - PointHistoryTable 처럼 ID 를 1부터 발급하지만 지연(throttle) 없이 인덱스에만 저장
+ */
+public class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        pointHistoryIndex.append(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointHistoryIndex.findAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        return pointHistoryIndex.findPageByUserId(userId, condition);
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return pointHistoryIndex.findAllUserIds();
+    }
+
+    @Override
+    public long selectLastId() {
+        return pointHistoryIndex.lastId();
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointVersions;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 벤치마크용 유저 포인트 저장소
+ * - UserPointTable 과 같은 동작을 하지만 지연(throttle) 없이 바로 반환
+ */
+public class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final UserPointVersions userPointVersions = new UserPointVersions();
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = table.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointVersions.write(id, () -> put(id, amount));
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        return userPointVersions.read(id, () -> selectById(id));
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        return userPointVersions.compareAndSet(id, expectedVersion, () -> put(id, amount), onCommit);
+    }
+
+    private UserPoint put(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+}
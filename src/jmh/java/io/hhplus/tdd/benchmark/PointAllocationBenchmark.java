@@ -0,0 +1,80 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.concurrency.LockPointUpdateExecutor;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 요청당 할당량 벤치마크
+ * - gc 프로파일러와 함께 실행해 gc.alloc.rate.norm (요청당 할당 바이트)을 비교
+ *   ./gradlew jmh -Pjmh.includes=PointAllocationBenchmark -Pjmh.profilers=gc
+ * - 거절된 요청 (충전 최소 금액 미만, 보유 포인트 부족) 과 성공한 요청을 나눠 측정
+ * - 요청당 할당량 예산은 PointServiceAllocationTest 에서 검사
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class PointAllocationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long INIT_POINT = 50_000L;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryUserPointRepository userPointRepository = new InMemoryUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        pointService = new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                new PointAggregateRepository(pointHistoryRepository, ""),
+                new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics)), pointMetrics);
+        userPointRepository.insertOrUpdate(USER_ID, INIT_POINT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public UserPoint acceptedChargeAndUse() {
+        pointService.chargePoint(USER_ID, PointConstant.MIN_CHARGE_POINT);
+        return pointService.usePoint(USER_ID, PointConstant.MIN_USE_POINT);
+    }
+
+    @Benchmark
+    public PointPolicyException.Rule rejectedCharge() {
+        try {
+            pointService.chargePoint(USER_ID, PointConstant.MIN_CHARGE_POINT - 1);
+            return null;
+        } catch (PointPolicyException e) {
+            return e.getRule();
+        }
+    }
+
+    @Benchmark
+    public PointPolicyException.Rule rejectedUse() {
+        try {
+            pointService.usePoint(USER_ID, PointConstant.MAX_POINT);
+            return null;
+        } catch (PointPolicyException e) {
+            return e.getRule();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 갱신 방식별 경합 벤치마크
+ * - 소수의 유저(userCount)에 요청을 몰아 같은 유저 갱신이 겹치는 상황에서 유저 락, 유저 락 + 갱신 합치기, 낙관적 갱신, 샤드 단일 writer 를 비교
+ * - userCount 가 스레드 수보다 충분히 크면 경합이 거의 없는 경우의 비용을 측정
+ * - 트라이얼 종료 시 낙관적 갱신의 충돌(재시도) 횟수를 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class PointContentionBenchmark {
+
+    private static final long INIT_POINT = 50_000L;
+    private static final long AMOUNT = 100L;
+
+    @Param({"LOCK", "LOCK_COMBINING", "OPTIMISTIC", "SHARDED"})
+    private ConcurrencyMode mode;
+
+    @Param({"1", "16", "10000"})
+    private int userCount;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointUpdateExecutor pointUpdateExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserPointRepository userPointRepository = new InMemoryUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+        meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        pointUpdateExecutor = mode.executor(userPointRepository, pointMetrics);
+        pointService = new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                new PointAggregateRepository(pointHistoryRepository, ""), pointUpdateExecutor, pointMetrics);
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            userPointRepository.insertOrUpdate(userId, INIT_POINT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ConcurrencyMode.shutdown(pointUpdateExecutor);
+        pointHistoryWriter.shutdown();
+        Counter conflicts = meterRegistry.find("point.optimistic.conflict").counter();
+        System.out.printf("%n[%s, userCount=%d] optimistic conflicts: %.0f%n",
+                mode, userCount, conflicts != null ? conflicts.count() : 0.0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void chargeAndUsePoint(Blackhole blackhole) {
+        long userId = ThreadLocalRandom.current().nextLong(userCount) + 1;
+        UserPoint charged = pointService.chargePoint(userId, AMOUNT);
+        blackhole.consume(charged);
+        blackhole.consume(pointService.usePoint(userId, AMOUNT));
+    }
+
+    @Threads(8)
+    public static class Threads8 extends PointContentionBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends PointContentionBenchmark {
+    }
+}
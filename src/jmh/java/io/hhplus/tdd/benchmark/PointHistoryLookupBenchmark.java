@@ -0,0 +1,75 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 이력 조회 벤치마크
+ * - PointHistoryTable.selectAllByUserId (전체 탐색) 와 PointHistoryIndex (유저별 인덱스) 비교
+ * - insert 의 지연을 피하기 위해 테이블 내부 목록에 직접 데이터를 채움
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryLookupBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    private UserIdDistribution distribution;
+
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryIndex pointHistoryIndex;
+    private UserIdDistribution.Generator userIds;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        pointHistoryTable = new PointHistoryTable();
+        pointHistoryIndex = new PointHistoryIndex();
+        userIds = distribution.generator(USER_COUNT);
+
+        Field field = PointHistoryTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        List<PointHistory> table = (List<PointHistory>) field.get(pointHistoryTable);
+        for (long id = 1; id <= rows; id++) {
+            PointHistory pointHistory = new PointHistory(id, userIds.nextUserId(), 100L, TransactionType.CHARGE, id);
+            table.add(pointHistory);
+            pointHistoryIndex.append(pointHistory);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PointHistory> tableSelectAllByUserId() {
+        return pointHistoryTable.selectAllByUserId(userIds.nextUserId());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PointHistory> indexFindAllByUserId() {
+        return pointHistoryIndex.findAllByUserId(userIds.nextUserId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<PointHistory> indexFindAllByUserId8Threads() {
+        return pointHistoryIndex.findAllByUserId(userIds.nextUserId());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public List<PointHistory> indexFindAllByUserId64Threads() {
+        return pointHistoryIndex.findAllByUserId(userIds.nextUserId());
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 처리량 벤치마크
+ * - 지연 없는 저장소를 사용해 서비스 자체(락, 정책 검사, 이력 큐)의 비용만 측정
+ * - 충전만 반복하면 최대 보유 포인트에 도달하므로 충전 후 같은 금액을 사용해 잔액을 유지
+ * - 스레드 수(1, 8, 64)별로 하위 클래스를 나눠 실행
+ * - 유저 락(LOCK)과 샤드 단일 writer(SHARDED)의 코어 수 대비 확장성을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class PointServiceBenchmark {
+
+    private static final long INIT_POINT = 50_000L;
+    private static final long AMOUNT = 100L;
+
+    @Param({"10000"})
+    private int userCount;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    private UserIdDistribution distribution;
+
+    @Param({"LOCK", "SHARDED"})
+    private ConcurrencyMode mode;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointUpdateExecutor pointUpdateExecutor;
+    private UserIdDistribution.Generator userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserPointRepository userPointRepository = new InMemoryUserPointRepository();
+        InMemoryPointHistoryRepository pointHistoryRepository = new InMemoryPointHistoryRepository();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        pointUpdateExecutor = mode.executor(userPointRepository, pointMetrics);
+        pointService = new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                new PointAggregateRepository(pointHistoryRepository, ""), pointUpdateExecutor, pointMetrics);
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            userPointRepository.insertOrUpdate(userId, INIT_POINT);
+        }
+        userIds = distribution.generator(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ConcurrencyMode.shutdown(pointUpdateExecutor);
+        pointHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public UserPoint chargeAndUsePoint() {
+        long userId = userIds.nextUserId();
+        pointService.chargePoint(userId, AMOUNT);
+        return pointService.usePoint(userId, AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(userIds.nextUserId());
+    }
+
+    @Threads(1)
+    public static class Threads1 extends PointServiceBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends PointServiceBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends PointServiceBenchmark {
+    }
+}
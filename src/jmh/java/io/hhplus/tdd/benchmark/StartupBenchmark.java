@@ -0,0 +1,152 @@
+package io.hhplus.tdd.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간, 첫 요청 지연 측정 (./gradlew startupBenchmark [-Paot])
+ * - build/cds 의 application.jar 를 새 JVM 으로 여러 번 기동해 모드별로 측정
+ * - ready : 프로세스 시작부터 /actuator/health 가 처음 200 을 응답할 때까지
+ * - first GET / first PATCH : 준비된 직후 처음 보내는 포인트 조회 / 충전 요청의 응답 시간 (클래스 로딩, JIT 전)
+ * - default 는 CDS 없이, cds 는 cdsArchive 가 만든 application.jsa 를 사용해 기동
+ * - 실행 인자 : 실행 디렉터리, java 경로, 반복 횟수, AOT 사용 여부
+ */
+public class StartupBenchmark {
+
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+
+    private final Path directory;
+    private final String java;
+    private final boolean aot;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(Path directory, String java, boolean aot) {
+        this.directory = directory;
+        this.java = java;
+        this.aot = aot;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[0]);
+        String java = args[1];
+        int runs = Integer.parseInt(args[2]);
+        boolean aot = Boolean.parseBoolean(args[3]);
+
+        StartupBenchmark benchmark = new StartupBenchmark(directory, java, aot);
+        System.out.printf("aot=%s, runs=%d (median / min, ms)%n", aot, runs);
+        System.out.printf("%-8s %17s %17s %17s%n", "mode", "ready", "first GET", "first PATCH");
+        for (String mode : List.of("default", "cds")) {
+            long[][] samples = new long[3][runs];
+            for (int run = 0; run < runs; run++) {
+                long[] result = benchmark.measure(mode.equals("cds"));
+                for (int metric = 0; metric < result.length; metric++) {
+                    samples[metric][run] = result[metric];
+                }
+            }
+            System.out.printf("%-8s %17s %17s %17s%n", mode, summary(samples[0]), summary(samples[1]), summary(samples[2]));
+        }
+    }
+
+    /**
+     * 한 번 기동해 측정
+     * @param cds
+     * @return 준비 시간, 첫 조회 시간, 첫 충전 시간 (ms)
+     */
+    private long[] measure(boolean cds) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java));
+        if (cds) {
+            command.add("-XX:SharedArchiveFile=application.jsa");
+            command.add("-Xlog:cds=error");
+        }
+        if (aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-jar", "application.jar", "--server.port=" + port, "--point.snapshot.interval=0s"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(new File(directory.toFile(), "startup-benchmark.log"))
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            awaitReady(process, URI.create(baseUrl + "/actuator/health"));
+            long ready = System.nanoTime() - start;
+            long firstGet = timed(HttpRequest.newBuilder(URI.create(baseUrl + "/point/1")).GET().build());
+            long firstPatch = timed(HttpRequest.newBuilder(URI.create(baseUrl + "/point/1/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("1000"))
+                    .build());
+            return new long[]{toMillis(ready), toMillis(firstGet), toMillis(firstPatch)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitReady(Process process, URI health) throws InterruptedException {
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다. exitCode=" + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(health).GET().build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 열리지 않음
+            } catch (IOException e) {
+                // 기동 중 연결이 끊기면 다시 시도
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException("애플리케이션이 " + READY_TIMEOUT.toSeconds() + "초 안에 준비되지 않았습니다.");
+    }
+
+    private long timed(HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " 응답 코드 " + response.statusCode());
+        }
+        return elapsed;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static String summary(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] + " / " + sorted[0];
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 대상 유저 ID 분포
+ * - UNIFORM : 모든 유저가 같은 확률로 선택
+ * - ZIPFIAN : 소수의 유저에 요청이 몰리는 분포 (s = 0.99)
+ */
+public enum UserIdDistribution {
+    UNIFORM,
+    ZIPFIAN;
+
+    private static final double ZIPFIAN_EXPONENT = 0.99;
+
+    /**
+     * 유저 ID 생성기
+     * @param userCount
+     * @return
+     */
+    public Generator generator(int userCount) {
+        if (this == UNIFORM) {
+            return () -> ThreadLocalRandom.current().nextLong(userCount) + 1;
+        }
+
+        // 누적 분포를 미리 계산하고 이진 탐색으로 순위를 찾음
+        double[] cumulative = new double[userCount];
+        double sum = 0;
+        for (int rank = 1; rank <= userCount; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPFIAN_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        double total = sum;
+        return () -> {
+            int found = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble() * total);
+            return (found >= 0 ? found : -(found + 1)) + 1L;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        long nextUserId();
+    }
+}
@@ -1,12 +1,26 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.exception.PointPolicyException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    // 정책 위반 응답은 정책마다 미리 만들어 두고 재사용
+    private static final Map<PointPolicyException.Rule, ResponseEntity<ErrorResponse>> POLICY_RESPONSES = new EnumMap<>(PointPolicyException.Rule.class);
+
+    static {
+        for (PointPolicyException.Rule rule : PointPolicyException.Rule.values()) {
+            POLICY_RESPONSES.put(rule, ResponseEntity.status(500).body(new ErrorResponse("500", rule.getMessage())));
+        }
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", e.getLocalizedMessage()));
@@ -16,4 +30,13 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", e.getMessage()));
     }
+
+    @ExceptionHandler(value = PointPolicyException.class)
+    public ResponseEntity<ErrorResponse> handlePointPolicyException(PointPolicyException e) {
+        ResponseEntity<ErrorResponse> response = POLICY_RESPONSES.get(e.getRule());
+        if (response.getBody().message().equals(e.getMessage())) {
+            return response;
+        }
+        return handleRuntimeException(e);
+    }
 }
@@ -14,6 +14,24 @@ public class PointConstant {
     // 최소 사용 포인트
     public static final long MIN_USE_POINT = 100L;
 
+    // 이력 페이지 기본 조회 개수
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+
+    // 이력 페이지 최대 조회 개수
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    // 이력 내보내기 시 한 번에 읽어 전송하는 이력 수
+    public static final int HISTORY_EXPORT_CHUNK_SIZE = 1000;
+
+    // 일괄 처리 최대 요청 수
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // 여러 유저 포인트 조회 최대 유저 수
+    public static final int MAX_BULK_READ_SIZE = 100;
+
+    // 유저별 일별 집계 보관 일 수 (일별 집계 최대 조회 기간)
+    public static final int MAX_DAILY_AGGREGATE_DAYS = 366;
+
     private PointConstant() {}
 
 }
@@ -0,0 +1,201 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 같은 유저 갱신 합치기 (point.concurrency.write-combining=true)
+ * - 유저의 갱신이 진행 중일 때 들어온 갱신은 유저별 대기열에 넣고, 진행 중인 갱신이 끝나면 대기열의 갱신을 모아 한 번에 반영
+ * - 대기열을 처리하는 스레드(combiner)는 한 유저에 하나이며, 나머지 스레드는 자기 갱신이 끝날 때까지 대기
+ * - 모은 갱신은 point.concurrency.mode 의 실행기로 한 번 조회-저장하고, 계산은 도착 순서대로 갱신마다 따로 적용
+ * - 갱신마다 정책을 검사해 실패한 갱신만 예외로 끝나고, 성공한 갱신마다 onCommit 을 실행 (이력은 갱신마다 하나씩)
+ * - 갱신마다 자기 계산 직후의 포인트를 결과로 받음
+ * - onCommit 은 갱신마다 따로 실행해, 한 갱신의 onCommit 이 실패해도 이미 저장된 다른 갱신은 성공으로 끝남
+ * - Error 를 포함한 어떤 예외가 발생해도 모은 갱신은 모두 완료 처리해 대기 중인 스레드가 남지 않도록 함
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "point.concurrency.write-combining", havingValue = "true")
+public class CombiningPointUpdateExecutor implements PointUpdateExecutor {
+
+    // 한 번에 합치는 최대 갱신 수
+    static final int MAX_COMBINED = 256;
+
+    // 대기 중인 스레드가 combiner 가 되어야 하는지 다시 확인하는 주기
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final PointUpdateExecutor delegate;
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, Combiner> combiners = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate point.concurrency.mode 로 선택된 실행기 (자기 자신은 주입 후보에서 제외됨)
+     * @param pointMetrics
+     */
+    public CombiningPointUpdateExecutor(PointUpdateExecutor delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        Combiner combiner = combiners.computeIfAbsent(id, key -> new Combiner());
+        Operation operation = new Operation(calculator, onCommit);
+        combiner.queue.offer(operation);
+
+        while (!operation.done) {
+            if (combiner.active.compareAndSet(false, true)) {
+                try {
+                    combine(id, combiner);
+                } finally {
+                    combiner.active.set(false);
+                }
+                wakeUpNext(id, combiner);
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        return operation.result();
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> updateAsync(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        // 비동기 갱신은 실행기의 방식을 그대로 사용 (sharded 모드는 이미 샤드에서 모아서 저장)
+        return delegate.updateAsync(id, calculator, onCommit);
+    }
+
+    /**
+     * 처리 대기 중인 유저 갱신 수
+     * @param id
+     * @return
+     */
+    int pendingCount(long id) {
+        Combiner combiner = combiners.get(id);
+        return combiner == null ? 0 : combiner.queue.size();
+    }
+
+    private void combine(long id, Combiner combiner) {
+        List<Operation> operations = new ArrayList<>();
+        Operation operation;
+        while (operations.size() < MAX_COMBINED && (operation = combiner.queue.poll()) != null) {
+            operations.add(operation);
+        }
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        try {
+            UserPoint committed = delegate.update(id, point -> {
+                boolean changed = false;
+                for (Operation target : operations) {
+                    // 재시도하면 다시 계산하므로 이전 시도의 결과는 덮어씀
+                    try {
+                        long calculated = target.calculator.applyAsLong(point);
+                        target.unchanged = calculated == NO_CHANGE;
+                        if (!target.unchanged) {
+                            point = calculated;
+                            changed = true;
+                        }
+                        target.point = point;
+                        target.error = null;
+                    } catch (RuntimeException e) {
+                        target.error = e;
+                    }
+                }
+                // 모두 실패했거나 저장하지 않는 갱신이면 저장 생략
+                return changed ? point : NO_CHANGE;
+            }, userPoint -> {
+                for (Operation target : operations) {
+                    if (target.error == null && !target.unchanged) {
+                        target.userPoint = new UserPoint(id, target.point, userPoint.updateMillis());
+                        try {
+                            target.onCommit.accept(target.userPoint);
+                        } catch (Throwable e) {
+                            // 포인트는 이미 저장되었으므로 실패는 해당 갱신에만 전달
+                            target.error = e;
+                        }
+                    }
+                }
+            });
+            pointMetrics.recordCombinedWrite(operations.size());
+            for (Operation target : operations) {
+                if (target.error == null && target.userPoint == null) {
+                    target.userPoint = new UserPoint(id, target.point, committed.updateMillis());
+                }
+            }
+        } catch (Throwable e) {
+            // 조회/저장 실패는 모은 갱신 모두 실패
+            for (Operation target : operations) {
+                target.error = e;
+            }
+        } finally {
+            for (Operation target : operations) {
+                target.complete();
+            }
+        }
+    }
+
+    private void wakeUpNext(long id, Combiner combiner) {
+        Operation next = combiner.queue.peek();
+        if (next != null) {
+            // 남은 갱신이 있으면 해당 스레드를 깨워 combiner 를 이어받게 함
+            LockSupport.unpark(next.thread);
+        } else {
+            // 대기열이 비면 제거 (제거 직후 들어온 갱신은 이 combiner 에서 처리되고, 새 갱신은 새 combiner 를 사용)
+            combiners.remove(id, combiner);
+        }
+    }
+
+    private static final class Combiner {
+        private final ConcurrentLinkedQueue<Operation> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean active = new AtomicBoolean();
+    }
+
+    private static final class Operation {
+        private final LongUnaryOperator calculator;
+        private final Consumer<UserPoint> onCommit;
+        private final Thread thread = Thread.currentThread();
+        private long point;
+        private boolean unchanged;
+        private Throwable error;
+        private UserPoint userPoint;
+        private volatile boolean done;
+
+        private Operation(LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+            this.calculator = calculator;
+            this.onCommit = onCommit;
+        }
+
+        private void complete() {
+            done = true;
+            LockSupport.unpark(thread);
+        }
+
+        private UserPoint result() {
+            if (error instanceof RuntimeException e) {
+                throw e;
+            }
+            if (error instanceof Error e) {
+                throw e;
+            }
+            if (error != null) {
+                throw new RuntimeException(error);
+            }
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 키별 순차 실행기
+ * - 같은 키의 작업은 제출 순서대로 하나씩 실행하고, 다른 키의 작업은 executor 에서 병렬로 실행
+ * - 앞 작업이 끝나면 다음 작업을 executor 에 넘기는 방식이라 순서를 기다리는 동안 스레드를 점유하지 않음 (락 대기 없음)
+ * - 키마다 마지막 작업의 완료 신호만 보관하고, 뒤에 이어진 작업이 없으면 실행 후 바로 제거
+ * - executor 가 작업을 거절하면 해당 작업만 예외로 완료하고 다음 작업은 계속 실행
+ */
+public class KeyedSerialExecutor {
+
+    private final Executor executor;
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 작업 제출
+     * @param key
+     * @param task
+     * @return 작업 결과, 작업이 실패하거나 거절되면 예외로 완료
+     */
+    public <T> CompletableFuture<T> submit(long key, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        // 교체가 원자적이므로 같은 키의 작업은 교체한 순서대로 이어짐
+        CompletableFuture<Void> previous = tails.put(key, done);
+
+        // 결과를 받은 쪽에서 이 작업이 끝났다고 볼 수 있도록 키를 정리한 뒤 결과를 완료
+        Runnable run = () -> {
+            T value;
+            try {
+                value = task.get();
+            } catch (Throwable e) {
+                finish(key, done);
+                result.completeExceptionally(e);
+                return;
+            }
+            finish(key, done);
+            result.complete(value);
+        };
+
+        if (previous == null) {
+            dispatch(key, run, result, done);
+        } else {
+            previous.whenComplete((ignored, e) -> dispatch(key, run, result, done));
+        }
+        return result;
+    }
+
+    /**
+     * 실행 중이거나 대기 중인 작업이 있는 키 수
+     * @return
+     */
+    public int size() {
+        return tails.size();
+    }
+
+    private void dispatch(long key, Runnable run, CompletableFuture<?> result, CompletableFuture<Void> done) {
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            finish(key, done);
+            result.completeExceptionally(new RuntimeException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", e));
+        }
+    }
+
+    private void finish(long key, CompletableFuture<Void> done) {
+        tails.remove(key, done);
+        done.complete(null);
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 유저 락으로 갱신 (기본값)
+ * - 같은 유저의 갱신은 락을 얻은 순서대로 하나씩 실행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.concurrency.mode", havingValue = "lock", matchIfMissing = true)
+public class LockPointUpdateExecutor implements PointUpdateExecutor {
+
+    private final UserPointRepository userPointRepository;
+    private final UserLockManager userLockManager;
+
+    @Override
+    public UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        return userLockManager.executeWithLock(id, () -> {
+            UserPoint userPoint = userPointRepository.selectById(id);
+            if (userPoint == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
+
+            long point = calculator.applyAsLong(userPoint.point());
+            if (point == NO_CHANGE) {
+                return userPoint;
+            }
+
+            UserPoint updatedUserPoint = userPointRepository.insertOrUpdate(id, point);
+            if (updatedUserPoint == null) {
+                throw new RuntimeException("포인트 저장 오류");
+            }
+
+            onCommit.accept(updatedUserPoint);
+            return updatedUserPoint;
+        });
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 없는 다중 생산자 / 단일 소비자 큐 (MPSC)
+ * - 생산자는 tail 을 getAndSet 한 번으로 교체한 뒤 이전 노드에 연결하므로 서로 대기하지 않음
+ * - poll 은 소비자 스레드 하나에서만 호출해야 함
+ * - 생산자가 tail 교체 후 연결하기 전이면 poll 이 잠시 null 을 반환할 수 있으나, 연결되면 다음 poll 에서 꺼내짐
+ */
+final class MpscQueue<E> {
+
+    private final AtomicReference<Node<E>> tail;
+    private final AtomicLong size = new AtomicLong();
+
+    // 소비자 스레드에서만 접근
+    private Node<E> head;
+
+    MpscQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    void offer(E value) {
+        Node<E> node = new Node<>(value);
+        size.incrementAndGet();
+        Node<E> previous = tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E value = next.value;
+        next.value = null;
+        head = next;
+        size.decrementAndGet();
+        return value;
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * 큐에 쌓인 요청 수
+     * @return
+     */
+    long size() {
+        return size.get();
+    }
+
+    private static final class Node<E> {
+        private E value;
+        private volatile Node<E> next;
+
+        private Node(E value) {
+            this.value = value;
+        }
+    }
+}
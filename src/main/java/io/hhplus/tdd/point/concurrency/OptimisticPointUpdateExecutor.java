@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 낙관적 갱신 (point.concurrency.mode=optimistic)
+ * - 락 없이 포인트를 버전과 함께 조회해 계산한 뒤, 버전이 그대로일 때만 저장 (compare-and-set)
+ * - 다른 요청이 먼저 저장해 버전이 바뀌었으면 잠시 대기 후 다시 조회부터 재시도
+ * - 대기 시간은 재시도마다 두 배씩 늘리고 그 범위 안에서 무작위로 선택 (exponential backoff + jitter)
+ * - 최대 재시도 횟수를 넘으면 실패
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.concurrency.mode", havingValue = "optimistic")
+public class OptimisticPointUpdateExecutor implements PointUpdateExecutor {
+
+    // 최대 시도 횟수
+    static final int MAX_ATTEMPTS = 32;
+
+    // 첫 재시도 전 최대 대기 시간
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    // 재시도 전 최대 대기 시간 상한
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final UserPointRepository userPointRepository;
+    private final PointMetrics pointMetrics;
+
+    @Override
+    public UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            VersionedUserPoint current = userPointRepository.selectVersionedById(id);
+            if (current.userPoint() == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
+
+            long point = calculator.applyAsLong(current.userPoint().point());
+            if (point == NO_CHANGE) {
+                // 저장 중이 아닌 시점에 조회한 포인트이므로 그대로 반환
+                return current.userPoint();
+            }
+
+            UserPoint updatedUserPoint = userPointRepository.compareAndSet(id, current.version(), point, onCommit);
+            if (updatedUserPoint != null) {
+                return updatedUserPoint;
+            }
+
+            pointMetrics.recordOptimisticConflict();
+            backoff(attempt);
+        }
+
+        throw new RuntimeException("동시 요청이 많아 포인트를 변경하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void backoff(int attempt) {
+        long bound = Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << Math.min(attempt, 20));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound) + 1);
+    }
+
+}
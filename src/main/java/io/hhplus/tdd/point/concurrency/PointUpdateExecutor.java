@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 유저 포인트 갱신 실행 방식
+ * - point.concurrency.mode 설정으로 구현체를 선택
+ * - 같은 유저의 갱신이 동시에 들어와도 조회-계산-저장이 다른 갱신과 섞이지 않도록 보장
+ */
+public interface PointUpdateExecutor {
+
+    // calculator 가 반환하면 저장하지 않음 (일괄 처리의 모든 항목이 실패한 경우 등)
+    long NO_CHANGE = Long.MIN_VALUE;
+
+    /**
+     * 유저 포인트 갱신
+     * - calculator 는 현재 포인트로 새 포인트를 계산하며, 재시도하는 구현에서는 여러 번 호출될 수 있음
+     * - calculator 가 NO_CHANGE 를 반환하면 저장과 onCommit 을 생략하고 조회한 포인트를 반환
+     * - onCommit 은 저장 직후 같은 유저의 다음 갱신보다 먼저 한 번만 실행 (이력 저장 등)
+     * @param id
+     * @param calculator
+     * @param onCommit
+     * @return 저장된 포인트 (저장하지 않았으면 조회한 포인트)
+     */
+    UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit);
+
+    /**
+     * 유저 포인트 비동기 갱신
+     * - 기본 구현은 호출한 스레드에서 바로 갱신한 결과를 반환
+     * @param id
+     * @param calculator
+     * @param onCommit
+     * @return 저장된 포인트, 실패하면 예외로 완료
+     */
+    default CompletableFuture<UserPoint> updateAsync(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        try {
+            return CompletableFuture.completedFuture(update(id, calculator, onCommit));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+}
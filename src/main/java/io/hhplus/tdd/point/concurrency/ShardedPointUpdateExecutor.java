@@ -0,0 +1,273 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 샤드 단일 writer 갱신 (point.concurrency.mode=sharded)
+ * - 유저 ID 를 해시해 N 개의 샤드 스레드 중 하나에 배정하고, 유저 포인트는 담당 샤드만 갱신
+ * - 요청은 샤드의 락 없는 큐(MPSC)에 넣고 CompletableFuture 로 결과를 받음
+ * - 샤드는 담당 유저의 포인트를 메모리에 보관하고, 큐에서 꺼낸 요청을 순서대로 계산 (정책 검사 포함)
+ * - 한 번에 꺼낸 요청 중 같은 유저의 요청은 마지막 포인트만 한 번 저장한 뒤 결과를 반환 (group commit)
+ * - 샤드 스레드만 유저 포인트를 읽고 쓰므로 락이 필요 없음
+ * - 이 모드에서는 이 실행기 외에 유저 포인트를 저장하는 곳이 없어야 함 (메모리의 포인트가 기준)
+ * - 종료 시 큐에 남은 요청과 진행 중인 요청까지 모두 처리한 뒤 종료 (종료 이후 요청은 실패한 future 반환)
+ */
+@Component
+@ConditionalOnProperty(name = "point.concurrency.mode", havingValue = "sharded")
+public class ShardedPointUpdateExecutor implements PointUpdateExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedPointUpdateExecutor.class);
+
+    // 샤드가 한 번에 꺼내 처리하는 최대 요청 수
+    private static final int BATCH_SIZE = 256;
+
+    private final UserPointRepository userPointRepository;
+    private final Shard[] shards;
+
+    private volatile boolean running;
+
+    public ShardedPointUpdateExecutor(UserPointRepository userPointRepository,
+                                      PointMetrics pointMetrics,
+                                      @Value("${point.concurrency.shards:0}") int shardCount) {
+        this.userPointRepository = userPointRepository;
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i);
+            pointMetrics.registerShardQueue(i, shards[i].queue::size);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            shard.thread.join();
+        }
+    }
+
+    @Override
+    public UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        try {
+            return updateAsync(id, calculator, onCommit).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> updateAsync(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+        Shard shard = shards[shardIndex(id)];
+        shard.inFlightSubmits.incrementAndGet();
+        try {
+            // 샤드 스레드가 종료한 뒤 큐에 넣지 않도록 진행 중인 요청으로 등록한 뒤 종료 여부를 확인
+            if (!running) {
+                return CompletableFuture.failedFuture(new RuntimeException("포인트 갱신이 종료되었습니다."));
+            }
+            Command command = new Command(id, calculator, onCommit);
+            shard.submit(command);
+            return command.future;
+        } finally {
+            shard.inFlightSubmits.decrementAndGet();
+        }
+    }
+
+    /**
+     * 샤드 수
+     * @return
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    int shardIndex(long id) {
+        // 연속된 유저 ID 가 고르게 퍼지도록 비트를 섞은 뒤 나눔
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) Long.remainderUnsigned(hash ^ (hash >>> 32), shards.length);
+    }
+
+    private final class Shard {
+
+        private final MpscQueue<Command> queue = new MpscQueue<>();
+        private final Thread thread;
+        // running 을 확인한 뒤 큐에 넣기 전인 요청 수 (샤드 스레드는 0 이 될 때까지 종료하지 않음)
+        private final AtomicInteger inFlightSubmits = new AtomicInteger();
+
+        // 샤드 스레드에서만 접근
+        private final Map<Long, UserPoint> balances = new HashMap<>();
+
+        private volatile boolean sleeping;
+
+        private Shard(int index) {
+            this.thread = new Thread(this::run, "point-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void submit(Command command) {
+            queue.offer(command);
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(BATCH_SIZE);
+            // running 을 먼저 확인하므로 종료 후 진행 중인 요청이 없고 큐가 비었을 때만 종료
+            while (running || inFlightSubmits.get() > 0 || !queue.isEmpty()) {
+                Command command;
+                while (batch.size() < BATCH_SIZE && (command = queue.poll()) != null) {
+                    batch.add(command);
+                }
+
+                if (batch.isEmpty()) {
+                    sleep();
+                    continue;
+                }
+
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    log.error("포인트 샤드 처리 실패 thread={}", thread.getName(), e);
+                    batch.forEach(failed -> failed.future.completeExceptionally(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void sleep() {
+            sleeping = true;
+            // sleeping 설정 후 다시 확인해야 submit 과 엇갈려 요청이 남은 채로 잠들지 않음
+            if (queue.isEmpty() && running) {
+                LockSupport.park(this);
+            } else if (!running) {
+                // 종료 중 진행 중인 요청이 큐에 넣을 때까지 잠깐 대기
+                Thread.onSpinWait();
+            }
+            sleeping = false;
+        }
+
+        private void process(List<Command> batch) {
+            // 유저별 계산 중인 포인트 (저장 전)
+            Map<Long, Long> staged = new LinkedHashMap<>();
+            List<Command> applied = new ArrayList<>(batch.size());
+
+            for (Command command : batch) {
+                try {
+                    Long stagedPoint = staged.get(command.id);
+                    long point = stagedPoint != null ? stagedPoint : load(command.id).point();
+                    long calculated = command.calculator.applyAsLong(point);
+                    command.unchanged = calculated == NO_CHANGE;
+                    command.point = command.unchanged ? point : calculated;
+                    if (!command.unchanged) {
+                        staged.put(command.id, command.point);
+                    }
+                    applied.add(command);
+                } catch (RuntimeException e) {
+                    command.future.completeExceptionally(e);
+                }
+            }
+
+            Map<Long, UserPoint> saved = new HashMap<>();
+            Map<Long, RuntimeException> failures = new HashMap<>();
+            staged.forEach((id, point) -> {
+                try {
+                    UserPoint userPoint = userPointRepository.insertOrUpdate(id, point);
+                    if (userPoint == null) {
+                        throw new RuntimeException("포인트 저장 오류");
+                    }
+                    balances.put(id, userPoint);
+                    saved.put(id, userPoint);
+                } catch (RuntimeException e) {
+                    // 저장 여부를 알 수 없으므로 다음 요청에서 저장소에서 다시 읽음
+                    balances.remove(id);
+                    failures.put(id, e);
+                }
+            });
+
+            for (Command command : applied) {
+                // 저장하지 않은 유저(모든 요청이 NO_CHANGE)는 보관 중인 포인트 기준
+                UserPoint userPoint = staged.containsKey(command.id) ? saved.get(command.id) : balances.get(command.id);
+                if (userPoint == null) {
+                    command.future.completeExceptionally(failures.get(command.id));
+                    continue;
+                }
+                try {
+                    UserPoint result = new UserPoint(command.id, command.point, userPoint.updateMillis());
+                    if (!command.unchanged) {
+                        command.onCommit.accept(result);
+                    }
+                    command.future.complete(result);
+                } catch (RuntimeException e) {
+                    command.future.completeExceptionally(e);
+                }
+            }
+        }
+
+        private UserPoint load(long id) {
+            UserPoint userPoint = balances.get(id);
+            if (userPoint != null) {
+                return userPoint;
+            }
+
+            userPoint = userPointRepository.selectById(id);
+            if (userPoint == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
+            balances.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static final class Command {
+        private final long id;
+        private final LongUnaryOperator calculator;
+        private final Consumer<UserPoint> onCommit;
+        private final CompletableFuture<UserPoint> future = new CompletableFuture<>();
+
+        // 샤드 스레드에서 계산한 포인트, 저장하지 않는 요청(NO_CHANGE)이면 계산 전 포인트
+        private long point;
+        private boolean unchanged;
+
+        private Command(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+            this.id = id;
+            this.calculator = calculator;
+            this.onCommit = onCommit;
+        }
+    }
+}
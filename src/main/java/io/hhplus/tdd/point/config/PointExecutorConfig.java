@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.PointConstant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 작업용 스레드 풀 설정
+ * - 여러 유저의 작업을 나눠 병렬로 처리할 때 사용
+ * - 동시 실행 수를 제한해 요청 하나가 너무 많은 스레드를 만들지 않도록 함
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상이면 가상 스레드 사용
+ * - pointBlockingExecutor : 비동기 API 의 블로킹 테이블 호출만 실행하는 제한된 풀 (스레드 수와 대기 작업 수 모두 제한)
+ * - pointBulkReadExecutor : 여러 유저 조회의 테이블 조회 전용 풀 (한 번에 조회할 수 있는 최대 유저 수만큼의 스레드)
+ *   여러 유저 조회가 몰려도 비동기 API 의 스레드와 대기열을 차지하지 않도록 분리
+ */
+@Configuration
+public class PointExecutorConfig {
+
+    // 포인트 작업 최대 동시 실행 수
+    private static final int POINT_TASK_THREAD_COUNT = 32;
+
+    private static final String THREAD_NAME_PREFIX = "point-task-";
+
+    // 블로킹 작업 최대 스레드 수 (CPU 코어 수의 배수)
+    private static final int BLOCKING_THREADS_PER_CORE = 10;
+
+    // 블로킹 작업 최대 대기 수 (넘으면 거절)
+    private static final int BLOCKING_QUEUE_CAPACITY = 100_000;
+
+    private static final long BLOCKING_KEEP_ALIVE_SECONDS = 60L;
+
+    // 여러 유저 조회 최대 대기 수 (최대 유저 수만큼 조회하는 요청 10 개, 넘으면 거절)
+    private static final int BULK_READ_QUEUE_CAPACITY = PointConstant.MAX_BULK_READ_SIZE * 10;
+
+    @Bean(name = "pointTaskExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService platformPointTaskExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(POINT_TASK_THREAD_COUNT, threadFactory);
+    }
+
+    @Bean(name = "pointBlockingExecutor", destroyMethod = "shutdown")
+    public ExecutorService pointBlockingExecutor() {
+        int threadCount = BLOCKING_THREADS_PER_CORE * Runtime.getRuntime().availableProcessors();
+        return boundedExecutor("point-blocking-", threadCount, BLOCKING_QUEUE_CAPACITY);
+    }
+
+    @Bean(name = "pointBulkReadExecutor", destroyMethod = "shutdown")
+    public ExecutorService pointBulkReadExecutor() {
+        return boundedExecutor("point-bulk-read-", PointConstant.MAX_BULK_READ_SIZE, BULK_READ_QUEUE_CAPACITY);
+    }
+
+    @Bean(name = "pointTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualPointTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(POINT_TASK_THREAD_COUNT);
+        return executor;
+    }
+
+    /**
+     * 스레드 수와 대기 작업 수를 제한한 풀 (대기 작업이 가득 차면 거절)
+     * @param threadNamePrefix
+     * @param threadCount
+     * @param queueCapacity
+     * @return
+     */
+    private static ThreadPoolExecutor boundedExecutor(String threadNamePrefix, int threadCount, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+                BLOCKING_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        // 사용하지 않는 스레드는 정리
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotentRequest;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 포인트 API
+ * - CompletableFuture 를 반환하면 서블릿 비동기 처리로 응답을 기다리는 동안 요청 스레드를 반환
+ * - 결과가 예외로 완료되면 ApiControllerAdvice 에서 동기 API 와 같은 형식으로 응답
+ * - 충전/사용은 동기 API 와 같이 Idempotency-Key 를 처리하고, 처리 중인 키로 다시 들어온 요청도 요청 스레드를 막지 않음
+ */
+@RestController
+@RequestMapping("/async/point")
+@RequiredArgsConstructor
+public class AsyncPointController {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final AsyncPointService asyncPointService;
+    private final IdempotencyCache idempotencyCache;
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(@PathVariable long id) {
+        return asyncPointService.getUserPoint(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(@PathVariable long id) {
+        return asyncPointService.getUserPointHistoryList(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(@PathVariable long id, @RequestBody long amount,
+                                               @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return asyncPointService.chargePoint(id, amount);
+        }
+        IdempotentRequest request = new IdempotentRequest(TransactionType.CHARGE.name(), id, amount);
+        return idempotencyCache.executeAsync(idempotencyKey, request, () -> asyncPointService.chargePoint(id, amount));
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(@PathVariable long id, @RequestBody long amount,
+                                            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return asyncPointService.usePoint(id, amount);
+        }
+        IdempotentRequest request = new IdempotentRequest(TransactionType.USE.name(), id, amount);
+        return idempotencyCache.executeAsync(idempotencyKey, request, () -> asyncPointService.usePoint(id, amount));
+    }
+}
@@ -1,11 +1,32 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.dto.PointBatchItem;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotentRequest;
+import io.hhplus.tdd.point.service.PointBatchService;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshotService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/point")
@@ -13,10 +34,29 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointSnapshotService pointSnapshotService;
+    private final IdempotencyCache idempotencyCache;
+    private final ObjectMapper objectMapper;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointBatchService pointBatchService,
+                           PointSnapshotService pointSnapshotService, IdempotencyCache idempotencyCache,
+                           ObjectMapper objectMapper) {
         this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.pointSnapshotService = pointSnapshotService;
+        this.idempotencyCache = idempotencyCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> points(@RequestParam List<Long> ids) {
+        return new ResponseEntity<>(pointService.getUserPoints(ids), HttpStatus.OK);
     }
 
     @GetMapping("{id}")
@@ -24,18 +64,119 @@ public class PointController {
         return new ResponseEntity<>(pointService.getUserPoint(id), HttpStatus.OK);
     }
 
+    @GetMapping("{id}/aggregates")
+    public ResponseEntity<?> aggregate(@PathVariable long id) {
+        return new ResponseEntity<>(pointService.getUserPointAggregate(id), HttpStatus.OK);
+    }
+
+    @GetMapping("{id}/aggregates/daily")
+    public ResponseEntity<?> dailyAggregate(
+            @PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return new ResponseEntity<>(pointService.getUserPointDailyAggregates(id, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("{id}/audit")
+    public ResponseEntity<?> audit(@PathVariable long id) {
+        return new ResponseEntity<>(pointSnapshotService.audit(id), HttpStatus.OK);
+    }
+
     @GetMapping("{id}/histories")
     public ResponseEntity<?> history(@PathVariable long id) {
         return new ResponseEntity<>(pointService.getUserPointHistoryList(id), HttpStatus.OK);
     }
 
+    @GetMapping("{id}/histories/page")
+    public ResponseEntity<?> historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "" + PointConstant.DEFAULT_HISTORY_PAGE_SIZE) int size
+    ) {
+        PointHistoryCondition condition = new PointHistoryCondition(cursor, from, to, type, size);
+        return new ResponseEntity<>(pointService.getUserPointHistoryPage(id, condition), HttpStatus.OK);
+    }
+
+    /**
+     * 유저 포인트 이력 내보내기
+     * - 유저 확인, 이력 저장 대기는 응답 헤더를 보내기 전에 처리해 실패하면 오류 응답을 반환
+     */
+    @GetMapping("{id}/histories/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(@PathVariable long id) {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(ndjson(pointService.exportUserPointHistories(id)));
+    }
+
+    @GetMapping("histories/export")
+    public ResponseEntity<StreamingResponseBody> exportAllHistory() {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(ndjson(pointService.exportAllPointHistories()));
+    }
+
+    /**
+     * 포인트 충전
+     * - 요청이 가장 많은 경로라 ResponseEntity 없이 UserPoint 를 바로 반환하고, Idempotency-Key 가 없으면 비교용 값을 만들지 않음
+     */
     @PatchMapping("{id}/charge")
-    public ResponseEntity<?> charge(@PathVariable long id, @RequestBody long amount) {
-        return new ResponseEntity<>(pointService.chargePoint(id, amount), HttpStatus.OK);
+    public UserPoint charge(@PathVariable long id, @RequestBody long amount,
+                            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return pointService.chargePoint(id, amount);
+        }
+        IdempotentRequest request = new IdempotentRequest(TransactionType.CHARGE.name(), id, amount);
+        return idempotencyCache.execute(idempotencyKey, request, () -> pointService.chargePoint(id, amount));
     }
 
+    /**
+     * 포인트 사용
+     */
     @PatchMapping("{id}/use")
-    public ResponseEntity<?> use(@PathVariable long id, @RequestBody long amount) {
-        return new ResponseEntity<>(pointService.usePoint(id, amount), HttpStatus.OK);
+    public UserPoint use(@PathVariable long id, @RequestBody long amount,
+                         @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return pointService.usePoint(id, amount);
+        }
+        IdempotentRequest request = new IdempotentRequest(TransactionType.USE.name(), id, amount);
+        return idempotencyCache.execute(idempotencyKey, request, () -> pointService.usePoint(id, amount));
+    }
+
+    @PatchMapping("batch")
+    public ResponseEntity<?> batch(@RequestBody List<PointBatchItem> items,
+                                   @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        IdempotentRequest request = new IdempotentRequest("BATCH", null, items);
+        return new ResponseEntity<>(idempotencyCache.execute(idempotencyKey, request, () -> pointBatchService.applyBatch(items)), HttpStatus.OK);
+    }
+
+    /**
+     * 이력을 한 줄에 하나의 JSON 으로 바로바로 전송 (NDJSON)
+     * - 전체 목록을 메모리에 모으지 않고, 전달받은 묶음 단위로 쓰고 flush
+     * - 응답 스트림은 서블릿 컨테이너가 닫으므로 generator 를 닫을 때 함께 닫지 않음
+     * @param export
+     * @return
+     */
+    private StreamingResponseBody ndjson(Consumer<Consumer<List<PointHistory>>> export) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.setRootValueSeparator(null);
+                export.accept(histories -> {
+                    try {
+                        for (PointHistory pointHistory : histories) {
+                            generator.writeObject(pointHistory);
+                            generator.writeRaw('\n');
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
     }
 }
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 유저 포인트 이력 집계
+ * - 충전/사용 시 누적해 두므로 조회 비용은 이력 수와 무관
+ * - lastActivityMillis : 마지막 충전/사용 시각 (이력이 없으면 0)
+ */
+public record PointAggregate(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        long transactionCount,
+        long lastActivityMillis
+) {
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 유저 포인트 검증 결과
+ * - expectedPoint : 스냅샷 포인트에 snapshotHistoryId 이후 이력 replayedHistories 건을 반영한 포인트
+ * - actualPoint : 저장소에 저장된 포인트
+ */
+public record PointAuditResult(
+        long userId,
+        long snapshotHistoryId,
+        int replayedHistories,
+        long expectedPoint,
+        long actualPoint,
+        boolean matched
+) {
+}
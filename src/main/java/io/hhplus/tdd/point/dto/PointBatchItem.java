@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 포인트 일괄 처리 요청 항목
+ */
+public record PointBatchItem(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
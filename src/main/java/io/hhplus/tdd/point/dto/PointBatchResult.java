@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 포인트 일괄 처리 항목별 결과
+ * - 성공 시 userPoint 에 해당 항목까지 적용된 포인트, 실패 시 message 에 실패 사유
+ */
+public record PointBatchResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String message
+) {
+
+    public static PointBatchResult success(PointBatchItem item, UserPoint userPoint) {
+        return new PointBatchResult(item.userId(), item.type(), item.amount(), true, userPoint, null);
+    }
+
+    public static PointBatchResult failure(PointBatchItem item, String message) {
+        return new PointBatchResult(item.userId(), item.type(), item.amount(), false, null, message);
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.Map;
+
+/**
+ * 여러 유저 포인트 조회 결과
+ * - userPoints 에 조회한 유저 ID 별 포인트, failures 에 조회하지 못한 유저 ID 별 실패 사유
+ */
+public record PointBulkResult(
+        Map<Long, UserPoint> userPoints,
+        Map<Long, String> failures
+) {
+}
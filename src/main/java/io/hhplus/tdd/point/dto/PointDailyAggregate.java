@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 유저 포인트 일별 집계
+ */
+public record PointDailyAggregate(
+        LocalDate date,
+        long charged,
+        long used,
+        long chargeCount,
+        long useCount
+) {
+}
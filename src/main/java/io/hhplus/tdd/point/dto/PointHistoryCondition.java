@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 포인트 이력 페이지 조회 조건
+ * - cursor : 이전 페이지의 마지막 이력 ID (해당 ID 이후부터 조회, 없으면 처음부터)
+ * - from, to : updateMillis 조회 범위 (포함, 없으면 제한 없음)
+ * - type : 트랜잭션 종류 (없으면 전체)
+ * - size : 페이지 크기
+ */
+public record PointHistoryCondition(
+        Long cursor,
+        Long from,
+        Long to,
+        TransactionType type,
+        int size
+) {
+
+    public static PointHistoryCondition firstPage(int size) {
+        return new PointHistoryCondition(null, null, null, null, size);
+    }
+
+    public boolean matches(TransactionType type, long updateMillis) {
+        return (this.type == null || this.type == type)
+                && (from == null || updateMillis >= from)
+                && (to == null || updateMillis <= to);
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 페이지
+ * - nextCursor : 다음 페이지 조회 시 사용할 cursor (마지막 페이지면 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.exception;
+
+import io.hhplus.tdd.point.PointConstant;
+
+/**
+ * 포인트 정책 위반 예외
+ * - 어떤 정책(PointConstant)을 위반했는지 rule 로 구분
+ * - 정책 위반은 정상적인 거절이므로 스택 트레이스와 suppressed 목록을 만들지 않음
+ * - 정책마다 미리 만들어 둔 예외(of)를 던지므로 거절할 때 객체를 만들지 않음 (상태가 없어 여러 스레드가 함께 사용해도 안전)
+ */
+public class PointPolicyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Rule rule;
+
+    public PointPolicyException(Rule rule, String message) {
+        super(message, null, false, false);
+        this.rule = rule;
+    }
+
+    /**
+     * 정책별로 미리 만들어 둔 예외
+     * @param rule
+     * @return
+     */
+    public static PointPolicyException of(Rule rule) {
+        return rule.exception;
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+
+    /**
+     * 포인트 정책
+     * - MIN_CHARGE_POINT : 최소 충전 포인트 미만
+     * - MAX_POINT : 충전 후 최대 보유 포인트 초과
+     * - MIN_USE_POINT : 최소 사용 포인트 미만
+     * - INSUFFICIENT_POINT : 보유 포인트 부족
+     * - MIN_POINT : 사용 후 최소 보유 포인트 미만
+     */
+    public enum Rule {
+        MIN_CHARGE_POINT("최소 충전 포인트는 " + PointConstant.MIN_CHARGE_POINT + "P 이상이어야 합니다."),
+        MAX_POINT("충전 후 보유 포인트는 " + PointConstant.MAX_POINT + "P를 초과할 수 없습니다."),
+        MIN_USE_POINT("최소 사용 포인트는 " + PointConstant.MIN_USE_POINT + "P 이상이어야 합니다."),
+        INSUFFICIENT_POINT("보유 포인트가 부족합니다."),
+        MIN_POINT("사용 후 잔여 포인트는 " + PointConstant.MIN_POINT + "P 이상이어야 합니다.");
+
+        private final String message;
+        private final PointPolicyException exception;
+
+        Rule(String message) {
+            this.message = message;
+            this.exception = new PointPolicyException(this, message);
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 중복 요청 캐시
+ * - 키마다 처음 요청의 결과를 ttl 동안 보관하고, 같은 키로 다시 들어온 요청은 저장된 결과를 바로 반환 (유저 락, 테이블 접근 없음)
+ * - 처음 요청이 처리 중이면 다시 들어온 요청은 새로 처리하지 않고 처음 요청의 결과를 기다림
+ * - 같은 키로 다른 요청(유저, 종류, 금액이 다름)이 들어오면 예외 발생
+ * - 처리에 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도 가능
+ * - 키는 들어온 순서대로 만료되므로 (ttl 이 같음) 추가 순서 큐의 앞에서부터 만료되었거나 maxEntries 를 넘은 키를 제거
+ * - 처리 중인 키는 만료되었거나 maxEntries 를 넘어도 제거하지 않음 (제거하면 같은 키로 다시 들어온 요청이 한 번 더 처리됨)
+ * - 실패했거나 만료되어 맵에서만 지운 키는 추가 순서 큐에 남으므로, 그 수가 보관 중인 키 수를 넘으면 큐 전체에서 한 번에 지움
+ *   (큐 크기는 보관 중인 키 수의 약 2배 이하로 유지되고, 지우는 비용은 실패/만료 한 건당 상수)
+ */
+@Component
+public class IdempotencyCache {
+
+    // 허용하는 최대 키 길이
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // 맵에서 지웠지만 추가 순서 큐에는 남아 있을 수 있는 항목 수 (큐를 정리할 시점을 정하는 근사값)
+    private final AtomicInteger removedEntries = new AtomicInteger();
+    private final AtomicBoolean purging = new AtomicBoolean();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final PointMetrics pointMetrics;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public IdempotencyCache(@Value("${point.idempotency.ttl:10m}") Duration ttl,
+                            @Value("${point.idempotency.max-entries:100000}") int maxEntries,
+                            PointMetrics pointMetrics) {
+        this(ttl, maxEntries, pointMetrics, System::nanoTime);
+    }
+
+    IdempotencyCache(Duration ttl, int maxEntries, PointMetrics pointMetrics, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.pointMetrics = pointMetrics;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 키가 없으면 그대로 처리하고, 있으면 처음 요청의 결과를 반환
+     * @param key
+     * @param request 같은 키로 들어온 요청이 처음 요청과 같은지 비교할 값 (equals)
+     * @param action
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object request, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        Claim claim = claim(key, request);
+        if (claim.created()) {
+            return (T) run(claim.entry(), action);
+        }
+        try {
+            return (T) claim.entry().result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 처리용 execute
+     * - 처음 요청은 action 이 반환한 결과가 완료될 때 결과를 보관하고, 예외로 완료되면 보관하지 않음
+     * - 같은 키로 다시 들어온 요청은 처음 요청이 처리 중이어도 기다리지 않고 처음 요청의 결과로 완료될 CompletableFuture 를 반환
+     * - 결과는 execute 와 같이 보관하므로 동기/비동기 API 에서 같은 키를 함께 사용 가능
+     * @param key
+     * @param request 같은 키로 들어온 요청이 처음 요청과 같은지 비교할 값 (equals)
+     * @param action
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Object request, Supplier<CompletableFuture<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        Claim claim = claim(key, request);
+        Entry entry = claim.entry();
+        if (!claim.created()) {
+            return entry.result.thenApply(result -> (T) result);
+        }
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (Throwable e) {
+            fail(entry, e);
+            throw e;
+        }
+        return future.whenComplete((result, e) -> {
+            if (e == null) {
+                entry.result.complete(result);
+            } else {
+                fail(entry, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        });
+    }
+
+    /**
+     * 보관 중인 키 수
+     * @return
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 추가 순서 큐에 남아 있는 항목 수 (맵에서 지운 항목 포함)
+     * @return
+     */
+    int queuedCount() {
+        return insertionOrder.size();
+    }
+
+    /**
+     * 키를 새로 차지하거나, 이미 있으면 처음 요청의 항목을 반환
+     * @param key
+     * @param request
+     * @return
+     */
+    private Claim claim(String key, Object request) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            evict(now);
+
+            Entry created = new Entry(key, request, now + ttlNanos);
+            Entry entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                insertionOrder.add(created);
+                return new Claim(created, true);
+            }
+
+            if (entry.expiresAt - now <= 0 && entry.result.isDone()) {
+                // 만료되었지만 아직 제거되지 않은 키는 제거한 뒤 새로 처리
+                if (entries.remove(key, entry)) {
+                    removedEntries.incrementAndGet();
+                }
+                continue;
+            }
+            if (!entry.request.equals(request)) {
+                throw new RuntimeException("Idempotency-Key 가 다른 요청에 사용되었습니다.");
+            }
+
+            pointMetrics.recordIdempotentReplay();
+            return new Claim(entry, false);
+        }
+    }
+
+    private Object run(Entry entry, Supplier<?> action) {
+        try {
+            Object result = action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            fail(entry, e);
+            throw e;
+        }
+    }
+
+    // 어떤 예외로 끝나도 결과를 완료해야 같은 키로 기다리는 요청이 계속 대기하지 않음
+    private void fail(Entry entry, Throwable e) {
+        if (entries.remove(entry.key, entry)) {
+            removedEntries.incrementAndGet();
+        }
+        entry.result.completeExceptionally(e);
+    }
+
+    private void evict(long now) {
+        purgeRemoved();
+        for (Iterator<Entry> iterator = insertionOrder.iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt - now > 0 && entries.size() < maxEntries) {
+                break;
+            }
+            // 처리 중인 키는 건너뛰고 그 다음으로 오래된 키를 제거
+            if (entry.result.isDone()) {
+                iterator.remove();
+                entries.remove(entry.key, entry);
+            }
+        }
+    }
+
+    // 앞에서부터 제거하는 evict 는 처리 중이거나 만료되지 않은 키에서 멈추므로, 그 뒤에 쌓인 지운 항목은 큐 전체를 훑어 지움
+    private void purgeRemoved() {
+        if (removedEntries.get() <= entries.size() || !purging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            removedEntries.set(0);
+            insertionOrder.removeIf(entry -> entries.get(entry.key) != entry);
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    private record Claim(Entry entry, boolean created) {
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Object request;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String key, Object request, long expiresAt) {
+            this.key = key;
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
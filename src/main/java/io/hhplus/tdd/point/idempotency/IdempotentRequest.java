@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.idempotency;
+
+/**
+ * 같은 Idempotency-Key 로 들어온 요청이 처음 요청과 같은지 비교하기 위한 값
+ * - 동기/비동기 API 가 같은 값을 사용하므로 같은 키를 함께 사용 가능
+ */
+public record IdempotentRequest(
+        String operation,
+        Long userId,
+        Object body
+) {
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 락 관리
+ * - 유저 ID 마다 공정(fair) 모드의 ReentrantLock 을 사용해 같은 유저의 요청은 도착 순서대로 처리
+ * - 다른 유저의 요청은 서로 대기하지 않고 병렬로 처리
+ * - 락을 사용 중인 스레드 수를 세어 아무도 사용하지 않는 락은 즉시 제거 (진행 중인 유저 수 만큼만 메모리 사용)
+ * - 락 대기 시간과 점유 시간을 지표로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLockManager {
+
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, UserLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 유저 락을 획득한 상태로 작업 실행
+     * @param userId
+     * @param task
+     * @return
+     */
+    public <T> T executeWithLock(long userId, Supplier<T> task) {
+        UserLock userLock = acquire(userId);
+        long waitStart = System.nanoTime();
+        userLock.lock.lock();
+        long holdStart = System.nanoTime();
+        pointMetrics.recordLockWait(holdStart - waitStart);
+        try {
+            return task.get();
+        } finally {
+            userLock.lock.unlock();
+            pointMetrics.recordLockHold(System.nanoTime() - holdStart);
+            release(userId);
+        }
+    }
+
+    /**
+     * 현재 관리 중인 락 개수
+     * @return
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    private UserLock acquire(long userId) {
+        // compute 는 같은 키에 대해 원자적으로 실행되므로 참조 수 증가와 락 생성이 함께 처리됨
+        return locks.compute(userId, (key, userLock) -> {
+            UserLock target = userLock == null ? new UserLock() : userLock;
+            target.holders++;
+            return target;
+        });
+    }
+
+    private void release(long userId) {
+        // 마지막 사용자가 반납하면 null 을 반환해 맵에서 제거
+        locks.computeIfPresent(userId, (key, userLock) -> --userLock.holders == 0 ? null : userLock);
+    }
+
+    private static final class UserLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int holders;
+    }
+}
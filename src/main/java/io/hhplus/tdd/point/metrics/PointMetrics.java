@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 기능 지표 수집
+ * - point.lock.wait / point.lock.hold : 유저 락 대기 시간 / 점유 시간
+ * - point.repository.latency : 저장소 메서드별 호출 시간 (repository, method 태그)
+ * - point.transaction : 충전/사용 요청 수 (type, result, rule 태그)
+ * - point.optimistic.conflict : 낙관적 갱신 중 버전 충돌로 재시도한 횟수
+ * - point.read.coalesced : 동시 조회를 병합해 생략된 유저 포인트 조회 수
+ * - point.shard.queue.depth : 샤드별 처리 대기 중인 요청 수 (shard 태그)
+ * - point.write.combined : 한 번의 조회/저장으로 합쳐 반영한 갱신 수 (분포)
+ * - point.history.pending / point.history.failed : 저장 대기 중인 이력 수 / 다시 시도해도 저장하지 못한 이력 수
+ * - point.idempotency.replayed : 같은 Idempotency-Key 로 다시 들어와 저장된 응답을 반환한 요청 수
+ * - 모든 타이머는 히스토그램을 함께 기록해 /actuator/prometheus 에서 분위수 계산 가능
+ * - 충전/사용 요청마다 기록하는 지표는 미리 등록해 두거나 한 번만 등록해 재사용 (요청마다 builder, 태그 객체를 만들지 않음)
+ */
+@Component
+public class PointMetrics {
+
+    private static final String ACCEPTED = "accepted";
+    private static final String REJECTED = "rejected";
+    private static final String NO_RULE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWaitTimer;
+    private final Timer lockHoldTimer;
+    private final Counter optimisticConflictCounter;
+    private final Counter coalescedReadCounter;
+    private final Counter idempotentReplayCounter;
+    private final DistributionSummary combinedWriteSummary;
+    private final Map<TransactionType, Counter> acceptedCounters = new EnumMap<>(TransactionType.class);
+    private final Map<TransactionType, Map<PointPolicyException.Rule, Counter>> rejectedCounters = new EnumMap<>(TransactionType.class);
+    // 저장소 이름 -> 메서드 이름 -> 타이머
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Timer>> repositoryTimers = new ConcurrentHashMap<>();
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWaitTimer = timer("point.lock.wait");
+        this.lockHoldTimer = timer("point.lock.hold");
+        this.optimisticConflictCounter = meterRegistry.counter("point.optimistic.conflict");
+        this.coalescedReadCounter = meterRegistry.counter("point.read.coalesced");
+        this.idempotentReplayCounter = meterRegistry.counter("point.idempotency.replayed");
+        this.combinedWriteSummary = DistributionSummary.builder("point.write.combined")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (TransactionType type : TransactionType.values()) {
+            acceptedCounters.put(type, counter(type, ACCEPTED, NO_RULE));
+            Map<PointPolicyException.Rule, Counter> counters = new EnumMap<>(PointPolicyException.Rule.class);
+            for (PointPolicyException.Rule rule : PointPolicyException.Rule.values()) {
+                counters.put(rule, counter(type, REJECTED, rule.name()));
+            }
+            rejectedCounters.put(type, counters);
+        }
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHoldTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOptimisticConflict() {
+        optimisticConflictCounter.increment();
+    }
+
+    public void recordCoalescedRead() {
+        coalescedReadCounter.increment();
+    }
+
+    public void recordIdempotentReplay() {
+        idempotentReplayCounter.increment();
+    }
+
+    public void recordCombinedWrite(int operations) {
+        combinedWriteSummary.record(operations);
+    }
+
+    /**
+     * 샤드 큐 길이 지표 등록
+     * @param shard
+     * @param depth
+     */
+    public void registerShardQueue(int shard, Supplier<Number> depth) {
+        Gauge.builder("point.shard.queue.depth", depth)
+                .tag("shard", String.valueOf(shard))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이력 비동기 저장 지표 등록
+     * @param pending
+     * @param failed
+     */
+    public void registerHistoryWriter(Supplier<Number> pending, Supplier<Number> failed) {
+        Gauge.builder("point.history.pending", pending).register(meterRegistry);
+        Gauge.builder("point.history.failed", failed).register(meterRegistry);
+    }
+
+    /**
+     * 저장소 호출 시간 기록
+     * @param repository
+     * @param method
+     * @param call
+     * @return
+     */
+    public <T> T recordRepository(String repository, String method, Supplier<T> call) {
+        return repositoryTimer(repository, method).record(call);
+    }
+
+    public void accepted(TransactionType type) {
+        acceptedCounters.get(type).increment();
+    }
+
+    public void rejected(TransactionType type, PointPolicyException.Rule rule) {
+        rejectedCounters.get(type).get(rule).increment();
+    }
+
+    private Timer repositoryTimer(String repository, String method) {
+        // 등록된 타이머는 람다(캡처 객체) 없이 조회
+        ConcurrentHashMap<String, Timer> timers = repositoryTimers.get(repository);
+        Timer timer = timers == null ? null : timers.get(method);
+        if (timer != null) {
+            return timer;
+        }
+        return repositoryTimers.computeIfAbsent(repository, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> timer("point.repository.latency", "repository", repository, "method", method));
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter counter(TransactionType type, String result, String rule) {
+        return Counter.builder("point.transaction")
+                .tag("type", type.name())
+                .tag("result", result)
+                .tag("rule", rule)
+                .register(meterRegistry);
+    }
+}
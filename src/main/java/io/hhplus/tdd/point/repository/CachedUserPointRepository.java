@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 유저 포인트 캐시 저장소
+ * - 조회 시 캐시에 없으면 원본 저장소에서 읽어 캐시에 저장 (read-through)
+ * - 저장 시 원본 저장소에 저장한 결과로 캐시를 바로 갱신 (write-through)
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 유저부터 제거 (LRU)
+ * - 조회 도중 저장이 일어나면 읽어온 값이 이전 값일 수 있으므로 캐시에 넣지 않음
+ * - 버전 조회는 compareAndSet 의 기준이 되므로 캐시를 거치지 않고 원본 저장소에서 조회
+ * - 여러 유저 조회는 캐시에 있는 유저는 캐시에서 반환하고, 없는 유저만 모아 원본 저장소에서 한 번에 조회
+ */
+@Primary
+@Component
+public class CachedUserPointRepository implements UserPointRepository {
+
+    // 캐시 최대 유저 수
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final UserPointRepository delegate;
+    private final Map<Long, UserPoint> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    // 저장이 일어날 때마다 증가, 캐시 락 안에서만 접근
+    private long writeSequence;
+
+    @Autowired
+    public CachedUserPointRepository(CoalescingUserPointRepository delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    CachedUserPointRepository(UserPointRepository delegate, int capacity) {
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long sequence;
+        synchronized (this) {
+            UserPoint cached = cache.get(id);
+            if (cached != null) {
+                hitCount.increment();
+                return cached;
+            }
+            sequence = writeSequence;
+        }
+        missCount.increment();
+
+        UserPoint userPoint = delegate.selectById(id);
+
+        synchronized (this) {
+            if (userPoint != null && sequence == writeSequence) {
+                cache.put(id, userPoint);
+            }
+        }
+        return userPoint;
+    }
+
+    @Override
+    public UserPointBulkRead selectByIds(Collection<Long> ids) {
+        Map<Long, UserPoint> userPoints = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long sequence;
+        synchronized (this) {
+            for (long id : ids) {
+                UserPoint cached = cache.get(id);
+                if (cached != null) {
+                    userPoints.put(id, cached);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            sequence = writeSequence;
+        }
+        hitCount.add(userPoints.size());
+        if (missingIds.isEmpty()) {
+            return new UserPointBulkRead(userPoints, Map.of());
+        }
+        missCount.add(missingIds.size());
+
+        UserPointBulkRead loaded = delegate.selectByIds(missingIds);
+
+        synchronized (this) {
+            if (sequence == writeSequence) {
+                cache.putAll(loaded.userPoints());
+            }
+        }
+        userPoints.putAll(loaded.userPoints());
+        return new UserPointBulkRead(userPoints, loaded.failures());
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        updateCache(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        return delegate.selectVersionedById(id);
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        // 새 버전이 공개되기 전에 캐시를 갱신해 다음 요청이 이전 값을 보지 않도록 함
+        return delegate.compareAndSet(id, expectedVersion, amount, userPoint -> {
+            updateCache(id, userPoint);
+            onCommit.accept(userPoint);
+        });
+    }
+
+    private synchronized void updateCache(long id, UserPoint userPoint) {
+        writeSequence++;
+        if (userPoint != null) {
+            cache.put(id, userPoint);
+        } else {
+            cache.remove(id);
+        }
+    }
+
+    /**
+     * 캐시 적중 횟수
+     * @return
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 캐시 미적중 횟수
+     * @return
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 현재 캐시된 유저 수
+     * @return
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+}
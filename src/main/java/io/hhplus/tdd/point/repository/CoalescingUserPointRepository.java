@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 유저 포인트 조회 병합 저장소 (single-flight)
+ * - 같은 유저의 조회가 동시에 들어오면 먼저 시작한 조회 하나만 원본 저장소를 호출하고 나머지는 그 결과를 함께 사용
+ * - 조회가 시작된 뒤 같은 유저의 저장이 끝났다면 그 조회 결과는 이전 값일 수 있으므로 함께 사용하지 않고 새로 조회
+ * - 저장 완료 여부는 유저 ID 해시로 나눈 구간별 저장 횟수로 판단 (다른 유저의 저장 때문에 새로 조회하는 경우는 있어도 이전 값을 반환하지는 않음)
+ * - 병합되어 생략된 조회 수는 point.read.coalesced 지표로 기록
+ */
+@Component
+public class CoalescingUserPointRepository implements UserPointRepository {
+
+    // 저장 횟수를 나눠 관리하는 구간 수 (2의 거듭제곱)
+    private static final int WRITE_SEQUENCE_STRIPES = 1024;
+
+    private final UserPointRepository delegate;
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, Flight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLongArray writeSequences = new AtomicLongArray(WRITE_SEQUENCE_STRIPES);
+
+    public CoalescingUserPointRepository(@Qualifier(UserPointRepository.STORAGE) UserPointRepository delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long sequence = writeSequences.get(stripe(id));
+        Flight created = new Flight(sequence);
+        Flight flight = inFlight.compute(id,
+                (key, existing) -> existing != null && existing.sequence == sequence ? existing : created);
+
+        if (flight != created) {
+            pointMetrics.recordCoalescedRead();
+            return await(flight);
+        }
+
+        try {
+            UserPoint userPoint = delegate.selectById(id);
+            created.result.complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            created.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, created);
+        }
+    }
+
+    @Override
+    public UserPointBulkRead selectByIds(Collection<Long> ids) {
+        // 여러 유저 조회는 원본 저장소가 한 번에 처리하도록 그대로 전달
+        return delegate.selectByIds(ids);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        try {
+            return delegate.insertOrUpdate(id, amount);
+        } finally {
+            writeSequences.incrementAndGet(stripe(id));
+        }
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        return delegate.selectVersionedById(id);
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        // 새 버전이 공개되기 전에 저장 횟수를 올려, 이후 시작한 조회가 이전 조회 결과를 함께 사용하지 않도록 함
+        return delegate.compareAndSet(id, expectedVersion, amount, userPoint -> {
+            writeSequences.incrementAndGet(stripe(id));
+            onCommit.accept(userPoint);
+        });
+    }
+
+    private UserPoint await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id * 0x9E3779B97F4A7C15L) & (WRITE_SEQUENCE_STRIPES - 1);
+    }
+
+    private static final class Flight {
+        // 조회를 시작할 때의 저장 횟수
+        private final long sequence;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Flight(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 유저의 포인트 이력을 압축해 저장하는 블록 목록
+ * - 이력 64 개를 한 블록으로 묶고, 봉인된 블록은 바이트 배열 하나에 [헤더][id 컬럼][updateMillis 컬럼][amount 컬럼] 순서로 저장
+ * - 헤더에는 첫 ID, updateMillis 최소/최대값, 트랜잭션 종류(이력마다 1 비트)를 두어 블록별 정보를 따로 배열로 들고 있지 않음
+ * - 각 컬럼은 값 그대로와 이전 값과의 차이(delta) 중 작게 인코딩되는 쪽을 골라, 최소값을 빼고 공약수(GCD)로 나눈 값을 가변 길이 정수(varint)로 저장
+ * - 채워지는 중인 마지막 블록은 이력마다 (id, updateMillis, amount) 의 delta 를 이어 쓰는 배열 하나에 두고, 가득 차면 컬럼으로 다시 인코딩해 봉인
+ * - 조회 시 필요한 블록만 풀어서(lazy decode) 읽고, cursor 위치는 블록별 첫 ID 를 이진 탐색해 찾음
+ * - 기간(from, to) 밖이거나 조회할 트랜잭션 종류가 없는 블록은 헤더만 읽고 건너뜀
+ */
+final class CompressedUserHistories {
+
+    static final int BLOCK_SIZE = 64;
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+    private static final byte[][] NO_BLOCKS = new byte[0][];
+    private static final byte[] EMPTY = new byte[0];
+    // 이력 한 건을 tail 에 쓸 때 필요한 최대 바이트 수 (varint 3 개)
+    private static final int MAX_ROW_BYTES = 30;
+    private static final int VALUE_ENCODING = 0;
+    private static final int DELTA_ENCODING = 1;
+
+    static {
+        // 트랜잭션 종류를 1 비트로 저장하므로 종류가 2개를 넘으면 저장 방식을 바꿔야 함
+        if (TRANSACTION_TYPES.length > 2) {
+            throw new ExceptionInInitializerError("트랜잭션 종류가 2개를 넘어 1 비트로 저장할 수 없습니다.");
+        }
+    }
+
+    private byte[][] blocks = NO_BLOCKS;
+    private int blockCount;
+
+    // 채워지는 중인 블록
+    private byte[] tail = EMPTY;
+    private int tailLength;
+    private int tailSize;
+    private long tailTypes;
+    private long tailMinUpdateMillis;
+    private long tailMaxUpdateMillis;
+    private long lastId;
+    private long lastUpdateMillis;
+    private long lastAmount;
+    // PointHistoryIndex.drainUpdatedUserIds 로 마지막으로 꺼낸 뒤 이력이 추가되었는지
+    private volatile boolean updated;
+
+    synchronized void append(PointHistory pointHistory) {
+        if (tail.length - tailLength < MAX_ROW_BYTES) {
+            tail = Arrays.copyOf(tail, tail.length + (tail.length >> 2) + MAX_ROW_BYTES);
+        }
+        if (tailSize == 0) {
+            tailLength = writeSigned(tail, tailLength, pointHistory.id());
+            tailLength = writeSigned(tail, tailLength, pointHistory.updateMillis());
+            tailLength = writeSigned(tail, tailLength, pointHistory.amount());
+            tailMinUpdateMillis = pointHistory.updateMillis();
+            tailMaxUpdateMillis = pointHistory.updateMillis();
+        } else {
+            tailLength = writeSigned(tail, tailLength, pointHistory.id() - lastId);
+            tailLength = writeSigned(tail, tailLength, pointHistory.updateMillis() - lastUpdateMillis);
+            tailLength = writeSigned(tail, tailLength, pointHistory.amount() - lastAmount);
+            tailMinUpdateMillis = Math.min(tailMinUpdateMillis, pointHistory.updateMillis());
+            tailMaxUpdateMillis = Math.max(tailMaxUpdateMillis, pointHistory.updateMillis());
+        }
+        tailTypes |= (long) pointHistory.type().ordinal() << tailSize;
+        lastId = pointHistory.id();
+        lastUpdateMillis = pointHistory.updateMillis();
+        lastAmount = pointHistory.amount();
+        tailSize++;
+
+        if (tailSize == BLOCK_SIZE) {
+            seal();
+        }
+        updated = true;
+    }
+
+    synchronized long lastId() {
+        return lastId;
+    }
+
+    synchronized int size() {
+        return blockCount * BLOCK_SIZE + tailSize;
+    }
+
+    /**
+     * 마지막 호출 이후 이력이 추가되었으면 표시를 지우고 true
+     * - lastHistoryId 이후 이력이 이미 있으면 다음 호출에도 true 가 되도록 표시를 남김
+     * @param lastHistoryId
+     * @return
+     */
+    boolean drainUpdated(long lastHistoryId) {
+        if (!updated) {
+            return false;
+        }
+        updated = false;
+        if (lastId() > lastHistoryId) {
+            updated = true;
+        }
+        return true;
+    }
+
+    synchronized List<PointHistory> toList(long userId) {
+        List<PointHistory> result = new ArrayList<>(size());
+        Block block = new Block();
+        for (int i = 0; i < blockCount(); i++) {
+            decode(i, block);
+            for (int j = 0; j < block.size; j++) {
+                result.add(block.toPointHistory(j, userId));
+            }
+        }
+        return result;
+    }
+
+    synchronized PointHistoryPage page(long userId, PointHistoryCondition condition) {
+        int blockIndex = condition.cursor() == null ? 0 : blockContaining(condition.cursor());
+        List<PointHistory> histories = new ArrayList<>(Math.min(condition.size(), size()));
+        Block block = new Block();
+
+        for (; blockIndex < blockCount(); blockIndex++) {
+            if (!mayMatch(blockIndex, condition)) {
+                continue;
+            }
+            decode(blockIndex, block);
+            for (int j = 0; j < block.size; j++) {
+                if (condition.cursor() != null && block.ids[j] <= condition.cursor()) {
+                    continue;
+                }
+                TransactionType type = block.type(j);
+                if (!condition.matches(type, block.updateMillis[j])) {
+                    continue;
+                }
+                if (histories.size() == condition.size()) {
+                    // 페이지가 찼는데 조건에 맞는 이력이 더 있으면 다음 페이지 존재
+                    return new PointHistoryPage(histories, histories.get(histories.size() - 1).id());
+                }
+                histories.add(new PointHistory(block.ids[j], userId, block.amounts[j], type, block.updateMillis[j]));
+            }
+        }
+        return new PointHistoryPage(histories, null);
+    }
+
+    // 블록에 조건에 맞는 이력이 있을 수 있는지 (풀지 않고 블록 헤더만으로 판단)
+    private boolean mayMatch(int blockIndex, PointHistoryCondition condition) {
+        long minUpdateMillis;
+        long maxUpdateMillis;
+        long types;
+        int size;
+        if (blockIndex < blockCount) {
+            Reader reader = new Reader(blocks[blockIndex]);
+            reader.readSigned();
+            minUpdateMillis = reader.readSigned();
+            maxUpdateMillis = minUpdateMillis + reader.readUnsigned();
+            types = reader.readLong();
+            size = BLOCK_SIZE;
+        } else {
+            minUpdateMillis = tailMinUpdateMillis;
+            maxUpdateMillis = tailMaxUpdateMillis;
+            types = tailTypes;
+            size = tailSize;
+        }
+        if ((condition.from() != null && maxUpdateMillis < condition.from())
+                || (condition.to() != null && minUpdateMillis > condition.to())) {
+            return false;
+        }
+        if (condition.type() == null) {
+            return true;
+        }
+        long sizeMask = size == Long.SIZE ? -1L : (1L << size) - 1;
+        // 종류 비트가 1 인 이력(ordinal 1)이 있는지, 0 인 이력(ordinal 0)이 있는지
+        return condition.type().ordinal() == 1 ? types != 0 : (~types & sizeMask) != 0;
+    }
+
+    private int blockCount() {
+        return blockCount + (tailSize > 0 ? 1 : 0);
+    }
+
+    // cursor 보다 큰 이력이 처음 나올 수 있는 블록 (첫 ID 가 cursor 이하인 마지막 블록)
+    private int blockContaining(long cursor) {
+        int low = 0;
+        int high = blockCount() - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firstId(mid) <= cursor) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    // 봉인된 블록의 헤더와 tail 모두 첫 ID 로 시작
+    private long firstId(int blockIndex) {
+        return new Reader(blockIndex < blockCount ? blocks[blockIndex] : tail).readSigned();
+    }
+
+    private void decode(int blockIndex, Block block) {
+        if (blockIndex < blockCount) {
+            block.decodeSealed(blocks[blockIndex]);
+        } else {
+            block.decodeTail(tail, tailSize, tailTypes);
+        }
+    }
+
+    private void seal() {
+        Block block = new Block();
+        block.decodeTail(tail, tailSize, tailTypes);
+
+        // 값마다 varint 하나에 헤더와 컬럼별 인코딩 정보를 더해도 넘지 않는 크기
+        byte[] buffer = new byte[BLOCK_SIZE * MAX_ROW_BYTES + 128];
+        int length = writeSigned(buffer, 0, block.ids[0]);
+        length = writeSigned(buffer, length, tailMinUpdateMillis);
+        length = writeUnsigned(buffer, length, tailMaxUpdateMillis - tailMinUpdateMillis);
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[length++] = (byte) (tailTypes >>> (i * Byte.SIZE));
+        }
+        length = writeColumn(buffer, length, block.ids);
+        length = writeColumn(buffer, length, block.updateMillis);
+        length = writeColumn(buffer, length, block.amounts);
+
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, Math.max(1, blockCount * 2));
+        }
+        blocks[blockCount++] = Arrays.copyOf(buffer, length);
+
+        // 봉인 후에는 다음 블록이 채워질 때까지 메모리를 잡고 있지 않도록 버퍼를 놓음
+        tail = EMPTY;
+        tailLength = 0;
+        tailTypes = 0;
+        tailSize = 0;
+    }
+
+    // 값 그대로와 delta 중 작게 인코딩되는 쪽으로 컬럼을 씀
+    private static int writeColumn(byte[] buffer, int position, long[] values) {
+        long[] deltas = new long[BLOCK_SIZE - 1];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            deltas[i - 1] = values[i] - values[i - 1];
+        }
+        if (unsignedLength(zigzag(values[0])) + encodedLength(deltas) < encodedLength(values)) {
+            position = writeUnsigned(buffer, position, DELTA_ENCODING);
+            position = writeSigned(buffer, position, values[0]);
+            return writeFrame(buffer, position, deltas);
+        }
+        position = writeUnsigned(buffer, position, VALUE_ENCODING);
+        return writeFrame(buffer, position, values);
+    }
+
+    // 최소값과 공약수를 쓴 뒤 각 값을 (값 - 최소값) / 공약수 로 씀 (부호 없는 64 비트 연산이므로 넘쳐도 복원됨)
+    private static int writeFrame(byte[] buffer, int position, long[] values) {
+        long min = min(values);
+        long unit = unit(values, min);
+        position = writeSigned(buffer, position, min);
+        position = writeUnsigned(buffer, position, unit);
+        for (long value : values) {
+            position = writeUnsigned(buffer, position, Long.divideUnsigned(value - min, unit));
+        }
+        return position;
+    }
+
+    private static long encodedLength(long[] values) {
+        long min = min(values);
+        long unit = unit(values, min);
+        long length = 0;
+        for (long value : values) {
+            length += unsignedLength(Long.divideUnsigned(value - min, unit));
+        }
+        return length;
+    }
+
+    private static long min(long[] values) {
+        long min = values[0];
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    // 최소값과의 차이들의 최대공약수 (모두 같으면 1)
+    private static long unit(long[] values, long min) {
+        long gcd = 0;
+        for (long value : values) {
+            long b = value - min;
+            while (b != 0) {
+                long remainder = Long.remainderUnsigned(gcd, b);
+                gcd = b;
+                b = remainder;
+            }
+        }
+        return gcd == 0 ? 1 : gcd;
+    }
+
+    private static int unsignedLength(long value) {
+        return value == 0 ? 1 : (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int writeSigned(byte[] buffer, int position, long value) {
+        return writeUnsigned(buffer, position, zigzag(value));
+    }
+
+    private static int writeUnsigned(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private long readUnsigned() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        private long readSigned() {
+            long zigzag = readUnsigned();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value |= (data[position++] & 0xFFL) << (i * Byte.SIZE);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 풀어낸 블록 하나 (조회마다 재사용)
+     */
+    private static final class Block {
+        private final long[] ids = new long[BLOCK_SIZE];
+        private final long[] updateMillis = new long[BLOCK_SIZE];
+        private final long[] amounts = new long[BLOCK_SIZE];
+        private long types;
+        private int size;
+
+        private void decodeSealed(byte[] data) {
+            Reader reader = new Reader(data);
+            reader.readSigned();
+            reader.readSigned();
+            reader.readUnsigned();
+            types = reader.readLong();
+            decodeColumn(reader, ids);
+            decodeColumn(reader, updateMillis);
+            decodeColumn(reader, amounts);
+            size = BLOCK_SIZE;
+        }
+
+        private static void decodeColumn(Reader reader, long[] values) {
+            if (reader.readUnsigned() == DELTA_ENCODING) {
+                long value = reader.readSigned();
+                long min = reader.readSigned();
+                long unit = reader.readUnsigned();
+                values[0] = value;
+                for (int i = 1; i < BLOCK_SIZE; i++) {
+                    value += min + reader.readUnsigned() * unit;
+                    values[i] = value;
+                }
+            } else {
+                long min = reader.readSigned();
+                long unit = reader.readUnsigned();
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    values[i] = min + reader.readUnsigned() * unit;
+                }
+            }
+        }
+
+        private void decodeTail(byte[] data, int count, long types) {
+            Reader reader = new Reader(data);
+            long id = 0;
+            long millis = 0;
+            long amount = 0;
+            for (int i = 0; i < count; i++) {
+                id += reader.readSigned();
+                millis += reader.readSigned();
+                amount += reader.readSigned();
+                ids[i] = id;
+                updateMillis[i] = millis;
+                amounts[i] = amount;
+            }
+            this.types = types;
+            this.size = count;
+        }
+
+        private TransactionType type(int index) {
+            return TRANSACTION_TYPES[(int) ((types >>> index) & 1)];
+        }
+
+        private PointHistory toPointHistory(int index, long userId) {
+            return new PointHistory(ids[index], userId, amounts[index], type(index), updateMillis[index]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 유저별 인덱스를 사용하는 포인트 이력 저장소
+ * - 이력은 압축 인덱스에만 저장하고 PointHistoryTable 에는 저장하지 않음 (같은 이력을 테이블과 인덱스에 두 번 보관하지 않도록 함)
+ * - ID 는 PointHistoryTable 처럼 1부터 발급하고, 유저별 이력이 ID 순서대로 추가되도록 발급과 추가를 한 번에 처리
+ * - 조회는 전체 테이블을 탐색하는 selectAllByUserId 대신 인덱스에서 해당 유저의 이력만 조회
+ * - 페이지 조회는 cursor 위치를 이진 탐색으로 찾은 뒤 페이지 크기만큼만 읽음
+ */
+@Primary
+@Component
+// 이력을 파일에 저장하는 mmap 모드가 아니면 사용
+@ConditionalOnExpression("'${point.storage.type:memory}' != 'mmap'")
+@RequiredArgsConstructor
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+    private static final String REPOSITORY = "pointHistory";
+
+    private final PointMetrics pointMetrics;
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private long cursor = 1;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return pointMetrics.recordRepository(REPOSITORY, "insert", () -> append(userId, amount, type, updateMillis));
+    }
+
+    private synchronized PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+        pointHistoryIndex.append(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectAllByUserId", () -> pointHistoryIndex.findAllByUserId(userId));
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectPageByUserId", () -> pointHistoryIndex.findPageByUserId(userId, condition));
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return pointHistoryIndex.findAllUserIds();
+    }
+
+    @Override
+    public long selectLastId() {
+        return pointHistoryIndex.lastId();
+    }
+
+    @Override
+    public List<Long> drainUpdatedUserIds(long lastHistoryId) {
+        return pointHistoryIndex.drainUpdatedUserIds(lastHistoryId);
+    }
+
+}
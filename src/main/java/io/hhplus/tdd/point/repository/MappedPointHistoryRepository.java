@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.storage.PointLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 메모리 매핑 로그 기반 포인트 이력 저장소 (point.storage.type=mmap)
+ * - 이력을 로그에 추가하고 로그의 sequence 를 이력 ID 로 사용
+ * - 이력 저장은 디스크에 반영될 때까지 대기 (여러 요청의 반영을 한 번에 처리)
+ * - PointHistoryWriter 는 이 저장소의 이력을 큐에 넣지 않고 충전/사용 반영 직후 바로 저장하므로,
+ *   응답한 충전/사용은 유저 포인트와 이력이 모두 디스크에 반영된 상태
+ * - 시작할 때 로그를 처음부터 읽어 유저별 인덱스를 복구하고, 조회는 인덱스에서 처리
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "point.storage.type", havingValue = "mmap")
+public class MappedPointHistoryRepository implements PointHistoryRepository {
+
+    private static final String REPOSITORY = "pointHistory";
+    private static final String LOG_NAME = "point-history";
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final PointMetrics pointMetrics;
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final PointLog pointLog;
+
+    public MappedPointHistoryRepository(@Value("${point.storage.directory}") Path directory,
+                                        @Value("${point.storage.segment-records}") int recordsPerSegment,
+                                        PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+        this.pointLog = new PointLog(directory, LOG_NAME, recordsPerSegment,
+                record -> pointHistoryIndex.append(new PointHistory(record.sequence(), record.userId(), record.amount(),
+                        TRANSACTION_TYPES[record.type()], record.updateMillis())));
+    }
+
+    @PreDestroy
+    public void close() {
+        pointLog.close();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return pointMetrics.recordRepository(REPOSITORY, "insert", () -> {
+            long id = pointLog.append(userId, amount, updateMillis, (byte) type.ordinal());
+            pointLog.awaitDurable(id);
+            PointHistory pointHistory = new PointHistory(id, userId, amount, type, updateMillis);
+            pointHistoryIndex.append(pointHistory);
+            return pointHistory;
+        });
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectAllByUserId", () -> pointHistoryIndex.findAllByUserId(userId));
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectPageByUserId", () -> pointHistoryIndex.findPageByUserId(userId, condition));
+    }
+
+    @Override
+    public List<Long> selectUserIds() {
+        return pointHistoryIndex.findAllUserIds();
+    }
+
+    @Override
+    public long selectLastId() {
+        return pointHistoryIndex.lastId();
+    }
+
+    @Override
+    public List<Long> drainUpdatedUserIds(long lastHistoryId) {
+        return pointHistoryIndex.drainUpdatedUserIds(lastHistoryId);
+    }
+
+    @Override
+    public boolean isDurableInsert() {
+        return true;
+    }
+
+}
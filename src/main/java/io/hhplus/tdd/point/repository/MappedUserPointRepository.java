@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.storage.PointLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 매핑 로그 기반 유저 포인트 저장소 (point.storage.type=mmap)
+ * - 저장할 때마다 유저 포인트를 로그에 추가하고 디스크에 반영된 뒤 반환 (여러 요청의 반영을 한 번에 처리)
+ * - 시작할 때 로그를 처음부터 읽어 유저별 마지막 포인트로 메모리 상태를 복구
+ * - 조회는 메모리 상태에서 처리
+ */
+@Component
+@Qualifier(UserPointRepository.STORAGE)
+@ConditionalOnProperty(name = "point.storage.type", havingValue = "mmap")
+public class MappedUserPointRepository implements UserPointRepository {
+
+    private static final String REPOSITORY = "userPoint";
+    private static final String LOG_NAME = "user-point";
+
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+    private final UserPointVersions userPointVersions = new UserPointVersions();
+    private final PointLog pointLog;
+
+    public MappedUserPointRepository(@Value("${point.storage.directory}") Path directory,
+                                     @Value("${point.storage.segment-records}") int recordsPerSegment,
+                                     PointMetrics pointMetrics) {
+        this.pointMetrics = pointMetrics;
+        this.pointLog = new PointLog(directory, LOG_NAME, recordsPerSegment,
+                record -> userPoints.put(record.userId(), new UserPoint(record.userId(), record.amount(), record.updateMillis())));
+    }
+
+    @PreDestroy
+    public void close() {
+        pointLog.close();
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectById", () -> {
+            UserPoint userPoint = userPoints.get(id);
+            return userPoint != null ? userPoint : UserPoint.empty(id);
+        });
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return pointMetrics.recordRepository(REPOSITORY, "insertOrUpdate",
+                () -> userPointVersions.write(id, () -> save(id, amount)));
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectVersionedById",
+                () -> userPointVersions.read(id, () -> {
+                    UserPoint userPoint = userPoints.get(id);
+                    return userPoint != null ? userPoint : UserPoint.empty(id);
+                }));
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        return pointMetrics.recordRepository(REPOSITORY, "compareAndSet",
+                () -> userPointVersions.compareAndSet(id, expectedVersion, () -> save(id, amount), onCommit));
+    }
+
+    private UserPoint save(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        long sequence = pointLog.append(id, amount, userPoint.updateMillis(), (byte) 0);
+        pointLog.awaitDurable(sequence);
+        userPoints.put(id, userPoint);
+        return userPoint;
+    }
+
+}
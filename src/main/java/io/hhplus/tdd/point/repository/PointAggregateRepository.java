@@ -0,0 +1,204 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointDailyAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 포인트 이력 집계
+ * - 충전/사용이 확정될 때마다 총 충전/사용 포인트, 건수, 마지막 활동 시각과 일별 집계를 누적
+ * - 전체 집계 조회는 O(1), 일별 집계 조회는 조회 기간의 일 수에 비례 (이력 수와 무관)
+ * - 일별 집계는 유저마다 (날짜, 충전, 사용, 충전 건수, 사용 건수) 를 날짜 순으로 long[] 하나에 저장하고, 최근 MAX_DAILY_AGGREGATE_DAYS 일만 보관
+ * - 날짜는 point.aggregate.zone (없으면 시스템 기본 시간대) 기준
+ * - 메모리에만 보관하므로 시작할 때 저장된 이력으로 다시 만듦 (mmap 저장 방식)
+ */
+@Component
+public class PointAggregateRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAggregateRepository.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final ZoneId zoneId;
+    private final ConcurrentHashMap<Long, UserAggregate> aggregates = new ConcurrentHashMap<>();
+
+    public PointAggregateRepository(PointHistoryRepository pointHistoryRepository,
+                                    @Value("${point.aggregate.zone:}") String zone) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.zoneId = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    /**
+     * 저장된 이력으로 집계 복구
+     */
+    @PostConstruct
+    public void load() {
+        int count = 0;
+        for (long userId : pointHistoryRepository.selectUserIds()) {
+            Long cursor = null;
+            do {
+                PointHistoryCondition condition = new PointHistoryCondition(cursor, null, null, null, PointConstant.HISTORY_EXPORT_CHUNK_SIZE);
+                PointHistoryPage page = pointHistoryRepository.selectPageByUserId(userId, condition);
+                for (PointHistory pointHistory : page.histories()) {
+                    record(userId, pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+                    count++;
+                }
+                cursor = page.nextCursor();
+            } while (cursor != null);
+        }
+        if (count > 0) {
+            log.info("포인트 집계 복구 users={}, histories={}", aggregates.size(), count);
+        }
+    }
+
+    /**
+     * 충전/사용 반영
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     */
+    public void record(long userId, long amount, TransactionType type, long updateMillis) {
+        long epochDay = LocalDate.ofInstant(Instant.ofEpochMilli(updateMillis), zoneId).toEpochDay();
+        aggregates.computeIfAbsent(userId, key -> new UserAggregate()).record(amount, type, updateMillis, epochDay);
+    }
+
+    /**
+     * 유저 전체 집계
+     * @param userId
+     * @return
+     */
+    public PointAggregate findByUserId(long userId) {
+        UserAggregate userAggregate = aggregates.get(userId);
+        if (userAggregate == null) {
+            return new PointAggregate(userId, 0, 0, 0, 0, 0, 0);
+        }
+        return userAggregate.toAggregate(userId);
+    }
+
+    /**
+     * 유저 일별 집계 (from, to 포함, 충전/사용이 있는 날만)
+     * @param userId
+     * @param from
+     * @param to
+     * @return
+     */
+    public List<PointDailyAggregate> findDailyByUserId(long userId, LocalDate from, LocalDate to) {
+        UserAggregate userAggregate = aggregates.get(userId);
+        if (userAggregate == null) {
+            return List.of();
+        }
+        return userAggregate.daily(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private static final class UserAggregate {
+
+        // 일별 집계 하나의 long 수 : 날짜(epochDay), 충전, 사용, 충전 건수, 사용 건수
+        private static final int STRIDE = 5;
+        private static final int MAX_DAYS = PointConstant.MAX_DAILY_AGGREGATE_DAYS;
+
+        private long totalCharged;
+        private long totalUsed;
+        private long chargeCount;
+        private long useCount;
+        private long lastActivityMillis;
+
+        private long[] days = new long[STRIDE];
+        private int dayCount;
+
+        private synchronized void record(long amount, TransactionType type, long updateMillis, long epochDay) {
+            boolean charge = type == TransactionType.CHARGE;
+            if (charge) {
+                totalCharged += amount;
+                chargeCount++;
+            } else {
+                totalUsed += amount;
+                useCount++;
+            }
+            lastActivityMillis = Math.max(lastActivityMillis, updateMillis);
+
+            int day = dayIndex(epochDay);
+            if (day < 0) {
+                return;
+            }
+            int base = day * STRIDE;
+            days[base + (charge ? 1 : 2)] += amount;
+            days[base + (charge ? 3 : 4)]++;
+        }
+
+        private synchronized PointAggregate toAggregate(long userId) {
+            return new PointAggregate(userId, totalCharged, totalUsed, chargeCount, useCount, chargeCount + useCount, lastActivityMillis);
+        }
+
+        private synchronized List<PointDailyAggregate> daily(long fromDay, long toDay) {
+            List<PointDailyAggregate> result = new ArrayList<>();
+            for (int day = lowerBound(fromDay); day < dayCount && days[day * STRIDE] <= toDay; day++) {
+                int base = day * STRIDE;
+                result.add(new PointDailyAggregate(LocalDate.ofEpochDay(days[base]),
+                        days[base + 1], days[base + 2], days[base + 3], days[base + 4]));
+            }
+            return result;
+        }
+
+        // 해당 날짜의 위치 (없으면 추가, 보관 기간보다 오래된 날짜면 -1)
+        private int dayIndex(long epochDay) {
+            // 대부분 마지막 날짜에 누적되거나 다음 날짜가 추가됨
+            if (dayCount > 0 && days[(dayCount - 1) * STRIDE] == epochDay) {
+                return dayCount - 1;
+            }
+            int position = lowerBound(epochDay);
+            if (position < dayCount && days[position * STRIDE] == epochDay) {
+                return position;
+            }
+
+            if (dayCount == MAX_DAYS) {
+                if (position == 0) {
+                    return -1;
+                }
+                // 가장 오래된 날짜 삭제
+                System.arraycopy(days, STRIDE, days, 0, (dayCount - 1) * STRIDE);
+                dayCount--;
+                position--;
+            }
+            if ((dayCount + 1) * STRIDE > days.length) {
+                days = Arrays.copyOf(days, Math.min(days.length * 2, MAX_DAYS * STRIDE));
+            }
+            System.arraycopy(days, position * STRIDE, days, (position + 1) * STRIDE, (dayCount - position) * STRIDE);
+            Arrays.fill(days, position * STRIDE, (position + 1) * STRIDE, 0);
+            days[position * STRIDE] = epochDay;
+            dayCount++;
+            return position;
+        }
+
+        // epochDay 이상인 첫 위치
+        private int lowerBound(long epochDay) {
+            int low = 0;
+            int high = dayCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (days[mid * STRIDE] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
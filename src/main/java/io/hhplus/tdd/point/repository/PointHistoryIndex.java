@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 포인트 이력 인덱스
+ * - 유저 ID 로 해당 유저의 이력 목록을 바로 찾을 수 있도록 저장 시점에 함께 추가
+ * - 이력은 추가만 가능하며, 유저별로 압축된 컬럼 블록(CompressedUserHistories)에 저장해 이력마다 객체를 두지 않음
+ * - 조회 비용은 전체 이력 수가 아닌 해당 유저의 이력 수에 비례
+ * - 유저별 이력은 ID 오름차순으로 추가되므로 cursor 위치는 이진 탐색으로 찾음
+ * - 유저별로 이력이 추가되었는지 표시해 스냅샷이 바뀐 유저만 다시 계산하도록 함 (유저 ID 를 담는 별도 Set 을 두지 않음)
+ */
+public class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, CompressedUserHistories> index = new ConcurrentHashMap<>();
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * 이력 추가
+     * @param pointHistory
+     */
+    public void append(PointHistory pointHistory) {
+        index.computeIfAbsent(pointHistory.userId(), key -> new CompressedUserHistories()).append(pointHistory);
+        // 유저별 인덱스에 추가된 뒤에 갱신해 lastId 이하의 이력은 항상 조회 가능하도록 함
+        lastId.accumulateAndGet(pointHistory.id(), Math::max);
+    }
+
+    /**
+     * 유저 이력 조회
+     * @param userId
+     * @return
+     */
+    public List<PointHistory> findAllByUserId(long userId) {
+        CompressedUserHistories userHistories = index.get(userId);
+        if (userHistories == null) {
+            return List.of();
+        }
+        return userHistories.toList(userId);
+    }
+
+    /**
+     * 유저 이력 페이지 조회
+     * @param userId
+     * @param condition
+     * @return
+     */
+    public PointHistoryPage findPageByUserId(long userId, PointHistoryCondition condition) {
+        CompressedUserHistories userHistories = index.get(userId);
+        if (userHistories == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        return userHistories.page(userId, condition);
+    }
+
+    /**
+     * 이력이 있는 유저 ID 목록 (오름차순)
+     * @return
+     */
+    public List<Long> findAllUserIds() {
+        List<Long> userIds = new ArrayList<>(index.keySet());
+        userIds.sort(null);
+        return userIds;
+    }
+
+    /**
+     * 마지막 호출 이후 이력이 추가된 유저 ID (오름차순)
+     * - 유저별 표시를 확인하며 지우고, lastHistoryId 이후 이력이 이미 있는 유저는 표시를 남겨 다음 호출에도 포함
+     * - 이력은 유저별 인덱스(표시 포함), lastId 순서로 반영되므로 lastHistoryId 이하의 이력이 있는 유저는 빠지지 않음
+     * - 전체 유저의 표시를 확인하지만 이력은 읽지 않으므로 스냅샷 계산은 바뀐 유저만 함
+     * @param lastHistoryId
+     * @return
+     */
+    public List<Long> drainUpdatedUserIds(long lastHistoryId) {
+        List<Long> userIds = new ArrayList<>();
+        index.forEach((userId, userHistories) -> {
+            if (userHistories.drainUpdated(lastHistoryId)) {
+                userIds.add(userId);
+            }
+        });
+        userIds.sort(null);
+        return userIds;
+    }
+
+    /**
+     * 마지막으로 추가된 이력 ID (없으면 0)
+     * @return
+     */
+    public long lastId() {
+        return lastId.get();
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.tdd.point.repository;
 
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 
@@ -11,4 +13,30 @@ public interface PointHistoryRepository {
 
     List<PointHistory> selectAllByUserId(long userId);
 
+    PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition);
+
+    List<Long> selectUserIds();
+
+    long selectLastId();
+
+    /**
+     * 마지막 호출 이후 이력이 추가된 유저 ID (오름차순, 스냅샷 생성용)
+     * - 꺼낸 유저는 목록에서 지우지만, lastHistoryId 이후 이력이 이미 있는 유저는 다음 호출에도 포함
+     * - 추가된 유저를 따로 기록하지 않는 저장소는 모든 유저 ID 를 반환
+     * @param lastHistoryId
+     * @return
+     */
+    default List<Long> drainUpdatedUserIds(long lastHistoryId) {
+        return selectUserIds();
+    }
+
+    /**
+     * insert 가 디스크에 반영될 때까지 대기하는 저장소인지 여부
+     * - true 이면 PointHistoryWriter 가 큐를 거치지 않고 호출한 스레드(유저 포인트 반영 직후)에서 바로 저장
+     * @return
+     */
+    default boolean isDurableInsert() {
+        return false;
+    }
+
 }
@@ -1,27 +0,0 @@
-package io.hhplus.tdd.point.repository;
-
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.point.entity.PointHistory;
-import io.hhplus.tdd.point.entity.TransactionType;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
-
-import java.util.List;
-
-@Component
-@RequiredArgsConstructor
-public class PointHistoryRepositoryImpl implements PointHistoryRepository {
-
-    private final PointHistoryTable pointHistoryTable;
-
-    @Override
-    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
-        return pointHistoryTable.insert(userId, amount, type, updateMillis);
-    }
-
-    @Override
-    public List<PointHistory> selectAllByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
-    }
-
-}
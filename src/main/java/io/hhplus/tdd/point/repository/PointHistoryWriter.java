@@ -0,0 +1,289 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 이력 비동기 저장 (write-behind)
+ * - 충전/사용 요청은 이력을 큐에 넣고 바로 반환하고, 단일 writer 스레드가 큐를 배치 단위로 꺼내 저장
+ * - 큐가 가득 차면 write 호출이 대기 (backpressure)
+ * - 단일 writer 가 큐 순서대로 저장하므로 같은 유저의 이력 ID 는 요청 순서대로 증가
+ * - 같은 유저의 write 호출은 호출하는 쪽(유저 락)에서 순서가 보장되어야 함
+ * - 종료 시 큐에 남은 이력과 진행 중인 write 호출의 이력까지 모두 저장한 뒤 종료 (종료 이후 write 호출은 예외)
+ * - 저장에 실패하면 대기 시간을 늘려 가며 다시 시도하고, 끝내 실패한 이력은 실패 수(point.history.failed)로 기록
+ * - 실패한 이력이 있는 유저의 awaitFlushed 는 예외를 발생시켜 빠진 이력을 저장된 것처럼 조회하지 않도록 함
+ * - 실패는 한 번 보고하면 확인한 것으로 보고, 이후 awaitFlushed 는 새로 실패한 이력이 있을 때만 예외 발생
+ * - 디스크에 반영될 때까지 대기하는 저장소(isDurableInsert, mmap 모드)는 큐를 거치지 않고 write 호출 스레드에서 바로 저장
+ *   (유저 포인트만 디스크에 남고 이력은 큐에서 유실되는 일이 없도록 함)
+ * - 처리량 한계 : 단일 writer 가 한 번에 한 건씩 저장하므로 저장소의 저장 시간에 좌우되며,
+ *   저장 속도보다 많이 요청되면 큐(10,000건)가 찬 뒤 충전/사용이 저장 속도에 맞춰 대기 (기본 저장소인 압축 인덱스는 저장 지연이 없음)
+ */
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    // 큐 최대 크기
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    // 한 번에 꺼내 저장하는 최대 이력 수
+    private static final int BATCH_SIZE = 100;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    // 이력 저장 최대 시도 횟수, 첫 재시도 대기 시간 (재시도마다 2배)
+    private static final int MAX_INSERT_ATTEMPTS = 5;
+    private static final long INSERT_RETRY_BACKOFF_MILLIS = 10L;
+
+    // awaitFlushed 최대 대기 시간
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000L;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final BlockingQueue<PendingHistory> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ConcurrentHashMap<Long, UserProgress> progressByUser = new ConcurrentHashMap<>();
+    // running 을 확인한 뒤 큐에 넣기 전인 write 호출 수 (writer 스레드는 0 이 될 때까지 종료하지 않음)
+    private final AtomicInteger inFlightWrites = new AtomicInteger();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public PointHistoryWriter(PointHistoryRepository pointHistoryRepository) {
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * 대기 이력 수, 저장 실패 수 지표를 함께 등록
+     * @param pointHistoryRepository
+     * @param pointMetrics
+     */
+    @Autowired
+    public PointHistoryWriter(PointHistoryRepository pointHistoryRepository, PointMetrics pointMetrics) {
+        this(pointHistoryRepository);
+        pointMetrics.registerHistoryWriter(this::pendingCount, failedCount::get);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "point-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join();
+    }
+
+    /**
+     * 이력 저장 요청
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     */
+    public void write(long userId, long amount, TransactionType type, long updateMillis) {
+        inFlightWrites.incrementAndGet();
+        try {
+            if (!running) {
+                throw new RuntimeException("포인트 이력 저장이 종료되었습니다.");
+            }
+            if (pointHistoryRepository.isDurableInsert()) {
+                insertNow(userId, amount, type, updateMillis);
+                return;
+            }
+            enqueue(userId, amount, type, updateMillis);
+        } finally {
+            inFlightWrites.decrementAndGet();
+        }
+    }
+
+    private void insertNow(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!insertWithRetry(new PendingHistory(userId, amount, type, updateMillis, null, 0L))) {
+            failedCount.incrementAndGet();
+            throw new RuntimeException("포인트 이력 저장에 실패했습니다.");
+        }
+    }
+
+    private void enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+        long[] sequence = new long[1];
+        UserProgress progress = progressByUser.compute(userId, (key, userProgress) -> {
+            UserProgress target = userProgress == null ? new UserProgress() : userProgress;
+            sequence[0] = ++target.enqueued;
+            return target;
+        });
+
+        try {
+            queue.put(new PendingHistory(userId, amount, type, updateMillis, progress, sequence[0]));
+        } catch (InterruptedException e) {
+            // 큐에 넣지 못한 순번은 되돌려 awaitFlushed 가 저장되지 않을 이력을 기다리지 않도록 함 (같은 유저의 write 는 차례로 호출됨)
+            progressByUser.computeIfPresent(userId, (key, userProgress) -> {
+                userProgress.enqueued--;
+                return userProgress.isIdle() ? null : userProgress;
+            });
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("포인트 이력 저장 요청이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 지금까지 요청된 유저의 이력이 모두 저장될 때까지 대기
+     * - 최대 대기 시간을 넘거나 아직 보고하지 않은 저장 실패 이력이 있으면 예외 발생
+     * @param userId
+     */
+    public void awaitFlushed(long userId) {
+        UserProgress progress = progressByUser.get(userId);
+        if (progress == null) {
+            return;
+        }
+
+        long target = progress.enqueued;
+        progress.lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+            while (progress.persisted < target) {
+                if (remainingNanos <= 0) {
+                    throw new RuntimeException("포인트 이력 저장 대기 시간이 초과되었습니다.");
+                }
+                remainingNanos = progress.flushed.awaitNanos(remainingNanos);
+            }
+            long failed = progress.failed;
+            if (failed > progress.reported) {
+                progress.reported = failed;
+                progressByUser.computeIfPresent(userId, (key, userProgress) -> userProgress.isIdle() ? null : userProgress);
+                throw new RuntimeException("포인트 이력 저장에 실패했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("포인트 이력 저장 대기가 중단되었습니다.");
+        } finally {
+            progress.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이력 수
+     * @return
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 다시 시도해도 저장하지 못한 이력 수
+     * @return
+     */
+    public long failedCount() {
+        return failedCount.get();
+    }
+
+    private void drainLoop() {
+        List<PendingHistory> batch = new ArrayList<>(BATCH_SIZE);
+        // running 을 먼저 확인하므로 종료 후 진행 중인 write 가 없고 큐가 비었을 때만 종료
+        while (running || inFlightWrites.get() > 0 || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                for (PendingHistory pendingHistory : batch) {
+                    persist(pendingHistory);
+                }
+            } catch (InterruptedException e) {
+                log.warn("포인트 이력 writer 스레드 인터럽트 발생");
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(PendingHistory pendingHistory) {
+        UserProgress progress = pendingHistory.progress();
+        if (!insertWithRetry(pendingHistory)) {
+            // 조회가 무한히 대기하지 않도록 진행 상태는 갱신하고, 실패 수를 남겨 awaitFlushed 에서 예외 발생
+            progress.failed++;
+            failedCount.incrementAndGet();
+        }
+
+        progress.persisted = pendingHistory.sequence();
+        // 대기 중인 이력과 보고하지 않은 실패가 없으면 제거해 유저 수만큼 메모리가 늘어나지 않도록 함
+        progressByUser.computeIfPresent(pendingHistory.userId(),
+                (key, userProgress) -> userProgress.isIdle() ? null : userProgress);
+        progress.lock.lock();
+        try {
+            progress.flushed.signalAll();
+        } finally {
+            progress.lock.unlock();
+        }
+    }
+
+    private boolean insertWithRetry(PendingHistory pendingHistory) {
+        long backoffMillis = INSERT_RETRY_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                pointHistoryRepository.insert(pendingHistory.userId(), pendingHistory.amount(), pendingHistory.type(), pendingHistory.updateMillis());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_INSERT_ATTEMPTS) {
+                    log.error("포인트 이력 저장 실패 userId={}, attempts={}", pendingHistory.userId(), attempt, e);
+                    return false;
+                }
+                log.warn("포인트 이력 저장 실패, 다시 시도 userId={}, attempt={}", pendingHistory.userId(), attempt, e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private record PendingHistory(
+            long userId,
+            long amount,
+            TransactionType type,
+            long updateMillis,
+            UserProgress progress,
+            long sequence
+    ) {
+    }
+
+    private static final class UserProgress {
+        // 가상 스레드가 대기 중 캐리어 스레드를 점유(pinning)하지 않도록 synchronized 대신 Lock 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition flushed = lock.newCondition();
+        private volatile long enqueued;
+        private volatile long persisted;
+        // writer 스레드에서만 변경
+        private volatile long failed;
+        // awaitFlushed 에서 예외로 보고한 실패 수, lock 안에서만 변경
+        private volatile long reported;
+
+        private boolean isIdle() {
+            return persisted == enqueued && failed == reported;
+        }
+    }
+}
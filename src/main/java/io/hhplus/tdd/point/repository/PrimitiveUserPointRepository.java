@@ -0,0 +1,285 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * 기본형 배열 기반 유저 포인트 저장소 (point.storage.type=primitive)
+ * - HashMap<Long, UserPoint> 대신 long[] 하나에 유저마다 (id, point, updateMillis, version) 4칸을 연속으로 저장
+ * - 개방 주소법(open addressing, 선형 탐사)으로 유저 ID 위치를 찾으므로 Long 박싱, 엔트리, 레코드 객체가 없음
+ * - 조회/저장 과정에서는 객체를 만들지 않고, 반환하는 UserPoint 만 생성
+ * - 조회는 낙관적 읽기(StampedLock)로 락 없이 처리하고, 저장은 쓰기 락 안에서 처리
+ * - compareAndSet 은 버전을 홀수(저장 중)로 바꿔 유저를 선점한 뒤 쓰기 락을 놓고 onCommit 을 실행
+ *   (onCommit 이 이력 큐에서 대기해도 다른 유저의 조회/저장을 막지 않음)
+ * - 저장 중인 유저의 버전 조회/저장은 onCommit 이 끝나 버전이 짝수가 될 때까지 대기
+ * - 사용 중인 칸이 3/4 을 넘으면 두 배 크기의 배열로 옮김
+ * - 조회/저장 시 객체를 만들지 않기 위해 호출별 지표 대신 유저 수/용량 지표만 기록
+ */
+@Component
+@Qualifier(UserPointRepository.STORAGE)
+@ConditionalOnProperty(name = "point.storage.type", havingValue = "primitive")
+public class PrimitiveUserPointRepository implements UserPointRepository {
+
+    private static final int STRIDE = 4;
+    private static final int POINT = 1;
+    private static final int UPDATE_MILLIS = 2;
+    private static final int VERSION = 3;
+
+    // 빈 칸 표시 (유저 ID 0 은 별도 칸에 저장)
+    private static final long EMPTY = 0L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    // 다른 요청이 저장 중일 때 다시 확인하기까지 대기 시간
+    private static final long WRITING_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final StampedLock lock = new StampedLock();
+
+    // 쓰기 락 안에서만 변경
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private final long[] zeroSlot = new long[STRIDE];
+
+    @Autowired
+    public PrimitiveUserPointRepository(@Value("${point.storage.initial-capacity:1024}") int initialCapacity,
+                                        MeterRegistry meterRegistry) {
+        this(initialCapacity);
+        Gauge.builder("point.storage.users", this, PrimitiveUserPointRepository::size).register(meterRegistry);
+        Gauge.builder("point.storage.capacity", this, PrimitiveUserPointRepository::capacity).register(meterRegistry);
+    }
+
+    PrimitiveUserPointRepository(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, initialCapacity) - 1) << 1;
+        this.slots = new long[capacity * STRIDE];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long stamp = lock.tryOptimisticRead();
+        long[] table = tableFor(id);
+        int index = find(table, id);
+        long point = index < 0 ? 0L : table[index + POINT];
+        long updateMillis = index < 0 ? 0L : table[index + UPDATE_MILLIS];
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                table = tableFor(id);
+                index = find(table, id);
+                point = index < 0 ? 0L : table[index + POINT];
+                updateMillis = index < 0 ? 0L : table[index + UPDATE_MILLIS];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return index < 0 ? UserPoint.empty(id) : new UserPoint(id, point, updateMillis);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        while (true) {
+            long stamp = lock.writeLock();
+            try {
+                long[] table = tableFor(id);
+                int index = find(table, id);
+                if (index < 0 || isStable(table[index + VERSION])) {
+                    index = store(id, amount, updateMillis);
+                    tableFor(id)[index + VERSION] += 2;
+                    return new UserPoint(id, amount, updateMillis);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            LockSupport.parkNanos(WRITING_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        while (true) {
+            long stamp = lock.readLock();
+            try {
+                long[] table = tableFor(id);
+                int index = find(table, id);
+                if (index < 0) {
+                    return new VersionedUserPoint(UserPoint.empty(id), 0L);
+                }
+                long version = table[index + VERSION];
+                if (isStable(version)) {
+                    return new VersionedUserPoint(new UserPoint(id, table[index + POINT], table[index + UPDATE_MILLIS]), version);
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            LockSupport.parkNanos(WRITING_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        long updateMillis = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            long[] table = tableFor(id);
+            int index = find(table, id);
+            long version = index < 0 ? 0L : table[index + VERSION];
+            if (version != expectedVersion || !isStable(version)) {
+                return null;
+            }
+            index = store(id, amount, updateMillis);
+            // 홀수 버전으로 유저를 선점해 onCommit 이 끝나기 전에는 같은 유저의 다음 저장이 진행되지 않도록 함
+            tableFor(id)[index + VERSION]++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        UserPoint userPoint = new UserPoint(id, amount, updateMillis);
+        try {
+            onCommit.accept(userPoint);
+        } finally {
+            publish(id);
+        }
+        return userPoint;
+    }
+
+    /**
+     * 저장 중(홀수)인 버전을 다음 짝수 버전으로 바꿔 다른 요청에 공개
+     * @param id
+     */
+    private void publish(long id) {
+        long stamp = lock.writeLock();
+        try {
+            long[] table = tableFor(id);
+            table[find(table, id) + VERSION]++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 저장된 유저 수
+     * @return
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size + (hasZeroKey ? 1 : 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 배열에 저장 가능한 유저 수
+     * @return
+     */
+    public int capacity() {
+        long stamp = lock.readLock();
+        try {
+            return mask + 1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long[] tableFor(long id) {
+        return id == EMPTY ? zeroSlot : slots;
+    }
+
+    /**
+     * 유저 ID 가 저장된 위치 (없으면 -1)
+     * - 낙관적 읽기 중에는 배열이 바뀔 수 있으므로 탐사 횟수를 용량으로 제한
+     */
+    private int find(long[] table, long id) {
+        if (id == EMPTY) {
+            return hasZeroKey ? 0 : -1;
+        }
+        int tableMask = table.length / STRIDE - 1;
+        int slot = hash(id) & tableMask;
+        for (int probe = 0; probe <= tableMask; probe++) {
+            long key = table[slot * STRIDE];
+            if (key == id) {
+                return slot * STRIDE;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * 포인트 저장 (버전은 호출하는 쪽에서 변경)
+     * @return 저장된 위치
+     */
+    private int store(long id, long amount, long updateMillis) {
+        if (id == EMPTY) {
+            hasZeroKey = true;
+            zeroSlot[POINT] = amount;
+            zeroSlot[UPDATE_MILLIS] = updateMillis;
+            return 0;
+        }
+
+        int index = find(slots, id);
+        if (index < 0) {
+            if ((size + 1) * 4L > (mask + 1) * 3L) {
+                resize();
+            }
+            index = insertSlot(slots, mask, id);
+            size++;
+        }
+        slots[index + POINT] = amount;
+        slots[index + UPDATE_MILLIS] = updateMillis;
+        return index;
+    }
+
+    private void resize() {
+        int capacity = (mask + 1) << 1;
+        long[] resized = new long[capacity * STRIDE];
+        int resizedMask = capacity - 1;
+        for (int index = 0; index < slots.length; index += STRIDE) {
+            long key = slots[index];
+            if (key != EMPTY) {
+                int target = insertSlot(resized, resizedMask, key);
+                System.arraycopy(slots, index + POINT, resized, target + POINT, STRIDE - 1);
+            }
+        }
+        slots = resized;
+        mask = resizedMask;
+    }
+
+    private static int insertSlot(long[] table, int tableMask, long id) {
+        int slot = hash(id) & tableMask;
+        while (table[slot * STRIDE] != EMPTY) {
+            slot = (slot + 1) & tableMask;
+        }
+        table[slot * STRIDE] = id;
+        return slot * STRIDE;
+    }
+
+    private static boolean isStable(long version) {
+        return (version & 1) == 0;
+    }
+
+    private static int hash(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.Map;
+
+/**
+ * 여러 유저 포인트 조회 결과
+ * - userPoints 에 조회한 유저 ID 별 포인트, failures 에 조회하지 못한 유저 ID 별 원인 예외
+ * - 요청한 유저는 둘 중 한 곳에만 포함
+ */
+public record UserPointBulkRead(
+        Map<Long, UserPoint> userPoints,
+        Map<Long, RuntimeException> failures
+) {
+}
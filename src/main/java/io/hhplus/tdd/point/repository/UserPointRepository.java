@@ -2,10 +2,61 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.entity.UserPoint;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
 public interface UserPointRepository {
 
+    // 캐시/조회 병합 아래에서 실제로 저장하는 저장소의 qualifier (point.storage.type 에 따라 하나만 등록)
+    String STORAGE = "userPointStorage";
+
     UserPoint selectById(long id);
 
     UserPoint insertOrUpdate(long id, long amount);
 
+    /**
+     * 여러 유저 포인트 조회
+     * - 기본 구현은 한 명씩 차례로 조회 (메모리 저장소)
+     * - 조회하지 못한 유저는 원인 예외와 함께 failures 로 반환하고 나머지 유저는 그대로 조회
+     * @param ids
+     * @return 유저 ID 별 포인트와 실패 원인
+     */
+    default UserPointBulkRead selectByIds(Collection<Long> ids) {
+        Map<Long, UserPoint> userPoints = new LinkedHashMap<>();
+        Map<Long, RuntimeException> failures = new LinkedHashMap<>();
+        for (long id : ids) {
+            try {
+                UserPoint userPoint = selectById(id);
+                if (userPoint != null) {
+                    userPoints.put(id, userPoint);
+                } else {
+                    failures.put(id, new RuntimeException("포인트를 조회하지 못했습니다."));
+                }
+            } catch (RuntimeException e) {
+                failures.put(id, e);
+            }
+        }
+        return new UserPointBulkRead(userPoints, failures);
+    }
+
+    /**
+     * 버전과 함께 유저 포인트 조회
+     * @param id
+     * @return
+     */
+    VersionedUserPoint selectVersionedById(long id);
+
+    /**
+     * 버전이 expectedVersion 과 같을 때만 유저 포인트 저장 (compare-and-set)
+     * - onCommit 은 저장에 성공한 경우 새 버전이 다른 요청에 보이기 전에 실행
+     * @param id
+     * @param expectedVersion
+     * @param amount
+     * @param onCommit
+     * @return 저장된 포인트, 버전이 달라 저장하지 못하면 null
+     */
+    UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit);
+
 }
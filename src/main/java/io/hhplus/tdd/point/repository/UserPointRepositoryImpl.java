@@ -2,23 +2,161 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.entity.UserPoint;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 테이블 유저 포인트 저장소
+ * - UserPointTable 은 HashMap 을 사용하므로 다른 유저의 저장이 동시에 일어나면 항목이 유실될 수 있음
+ * - 저장한 포인트는 ConcurrentHashMap(committed)에 보관하고 테이블에도 저장(write-through)하며, 조회는 committed 에서 처리
+ * - committed 에 없는 유저(이 저장소를 거치지 않고 테이블에 저장된 유저)만 테이블에서 조회
+ * - committed 에는 저장한 유저만 넣으므로 없는 유저를 조회해도 늘어나지 않음 (크기는 저장한 유저 수)
+ * - 여러 유저 조회는 유저마다 테이블 조회를 전용 풀(pointBulkReadExecutor)에서 동시에 실행하므로 걸리는 시간은 가장 느린 조회 한 번 정도
+ * - 실행기가 거절했거나 조회에 실패한 유저는 결과에서 빼고 나머지 유저는 그대로 반환
+ */
 @Component
-@RequiredArgsConstructor
+@Qualifier(UserPointRepository.STORAGE)
+@ConditionalOnProperty(name = "point.storage.type", havingValue = "memory", matchIfMissing = true)
 public class UserPointRepositoryImpl implements UserPointRepository {
 
+    private static final Logger log = LoggerFactory.getLogger(UserPointRepositoryImpl.class);
+
+    private static final String REPOSITORY = "userPoint";
+
     private final UserPointTable userPointTable;
+    private final PointMetrics pointMetrics;
+    private final Executor bulkReadExecutor;
+    private final UserPointVersions userPointVersions = new UserPointVersions();
+    private final ConcurrentHashMap<Long, UserPoint> committed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserPointRepositoryImpl(UserPointTable userPointTable,
+                                   PointMetrics pointMetrics,
+                                   @Qualifier("pointBulkReadExecutor") Executor bulkReadExecutor) {
+        this.userPointTable = userPointTable;
+        this.pointMetrics = pointMetrics;
+        this.bulkReadExecutor = bulkReadExecutor;
+    }
+
+    /**
+     * 여러 유저 조회를 호출한 스레드에서 차례로 실행
+     * @param userPointTable
+     * @param pointMetrics
+     */
+    public UserPointRepositoryImpl(UserPointTable userPointTable, PointMetrics pointMetrics) {
+        this(userPointTable, pointMetrics, Runnable::run);
+    }
 
     @Override
     public UserPoint selectById(long id) {
-        return userPointTable.selectById(id);
+        return pointMetrics.recordRepository(REPOSITORY, "selectById", () -> read(id));
+    }
+
+    @Override
+    public UserPointBulkRead selectByIds(Collection<Long> ids) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectByIds", () -> {
+            List<Long> requested = new ArrayList<>(ids);
+            List<CompletableFuture<UserPoint>> futures = new ArrayList<>(requested.size());
+            for (long id : requested) {
+                UserPoint userPoint = committed.get(id);
+                if (userPoint != null) {
+                    futures.add(CompletableFuture.completedFuture(userPoint));
+                    continue;
+                }
+                CompletableFuture<UserPoint> future;
+                try {
+                    future = CompletableFuture.supplyAsync(() -> readTable(id), bulkReadExecutor);
+                } catch (RuntimeException e) {
+                    // 실행기가 가득 차 거절한 유저만 실패로 처리
+                    future = CompletableFuture.failedFuture(e);
+                }
+                futures.add(future);
+            }
+
+            Map<Long, UserPoint> userPoints = new LinkedHashMap<>();
+            Map<Long, RuntimeException> failures = new LinkedHashMap<>();
+            for (int i = 0; i < requested.size(); i++) {
+                long id = requested.get(i);
+                try {
+                    UserPoint userPoint = futures.get(i).join();
+                    if (userPoint != null) {
+                        userPoints.put(id, userPoint);
+                    } else {
+                        failures.put(id, new RuntimeException("포인트를 조회하지 못했습니다."));
+                    }
+                } catch (CompletionException e) {
+                    log.warn("유저 포인트 조회 실패 userId={}", id, e.getCause());
+                    failures.put(id, e.getCause() instanceof RuntimeException cause ? cause : e);
+                }
+            }
+            return new UserPointBulkRead(userPoints, failures);
+        });
     }
 
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        return pointMetrics.recordRepository(REPOSITORY, "insertOrUpdate",
+                () -> userPointVersions.write(id, () -> save(id, amount)));
+    }
+
+    @Override
+    public VersionedUserPoint selectVersionedById(long id) {
+        return pointMetrics.recordRepository(REPOSITORY, "selectVersionedById",
+                () -> userPointVersions.read(id, () -> read(id)));
+    }
+
+    @Override
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount, Consumer<UserPoint> onCommit) {
+        return pointMetrics.recordRepository(REPOSITORY, "compareAndSet",
+                () -> userPointVersions.compareAndSet(id, expectedVersion, () -> save(id, amount), onCommit));
+    }
+
+    private UserPoint read(long id) {
+        UserPoint userPoint = committed.get(id);
+        return userPoint != null ? userPoint : readTable(id);
+    }
+
+    /**
+     * committed 에 없는 유저를 테이블에서 조회
+     * - 조회하는 동안 저장된 포인트가 있으면 그 포인트를 반환
+     * - 조회한 포인트는 committed 에 넣지 않음
+     * @param id
+     * @return
+     */
+    private UserPoint readTable(long id) {
+        UserPoint userPoint = userPointTable.selectById(id);
+        UserPoint saved = committed.get(id);
+        return saved != null ? saved : userPoint;
+    }
+
+    /**
+     * committed 에 보관 중인 유저 수
+     * @return
+     */
+    int committedCount() {
+        return committed.size();
+    }
+
+    private UserPoint save(long id, long amount) {
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        committed.put(id, userPoint);
+        return userPoint;
     }
 
 }
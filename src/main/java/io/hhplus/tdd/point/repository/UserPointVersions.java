@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 포인트 버전 관리 (seqlock)
+ * - 버전이 짝수면 저장이 끝난 상태, 홀수면 저장 중인 상태
+ * - 저장하는 쪽은 짝수 버전을 CAS 로 홀수로 바꾼 뒤 저장하고, 끝나면 다음 짝수로 변경
+ * - 조회하는 쪽은 조회 전후의 버전이 같은 짝수일 때만 일관된 값으로 판단
+ * - 락을 잡지 않으므로 서로 다른 유저의 조회/저장은 서로 대기하지 않음
+ */
+public class UserPointVersions {
+
+    // 다른 요청이 저장 중일 때 다시 확인하기까지 대기 시간
+    private static final long WRITING_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 저장 중이 아닌 시점의 포인트를 버전과 함께 조회
+     * @param id
+     * @param reader
+     * @return
+     */
+    public VersionedUserPoint read(long id, Supplier<UserPoint> reader) {
+        AtomicLong version = version(id);
+        while (true) {
+            long before = version.get();
+            if (isStable(before)) {
+                UserPoint userPoint = reader.get();
+                if (version.get() == before) {
+                    return new VersionedUserPoint(userPoint, before);
+                }
+            } else {
+                LockSupport.parkNanos(WRITING_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * 버전이 expectedVersion 과 같을 때만 저장
+     * - onCommit 은 새 버전이 공개되기 전에 실행되므로 같은 유저의 다음 저장보다 항상 먼저 실행
+     * @param id
+     * @param expectedVersion
+     * @param writer
+     * @param onCommit
+     * @return 저장된 포인트, 버전이 달라 저장하지 못하면 null
+     */
+    public UserPoint compareAndSet(long id, long expectedVersion, Supplier<UserPoint> writer, Consumer<UserPoint> onCommit) {
+        AtomicLong version = version(id);
+        if (!isStable(expectedVersion) || !version.compareAndSet(expectedVersion, expectedVersion + 1)) {
+            return null;
+        }
+        return publish(version, expectedVersion, writer, onCommit);
+    }
+
+    /**
+     * 버전과 관계없이 저장
+     * - 다른 요청이 저장 중이면 끝날 때까지 대기한 뒤 저장
+     * @param id
+     * @param writer
+     * @return
+     */
+    public UserPoint write(long id, Supplier<UserPoint> writer) {
+        AtomicLong version = version(id);
+        while (true) {
+            long current = version.get();
+            if (isStable(current) && version.compareAndSet(current, current + 1)) {
+                return publish(version, current, writer, userPoint -> {});
+            }
+            LockSupport.parkNanos(WRITING_PARK_NANOS);
+        }
+    }
+
+    private UserPoint publish(AtomicLong version, long claimedVersion, Supplier<UserPoint> writer, Consumer<UserPoint> onCommit) {
+        try {
+            UserPoint userPoint = writer.get();
+            if (userPoint != null) {
+                onCommit.accept(userPoint);
+            }
+            return userPoint;
+        } finally {
+            version.set(claimedVersion + 2);
+        }
+    }
+
+    private AtomicLong version(long id) {
+        return versions.computeIfAbsent(id, key -> new AtomicLong());
+    }
+
+    private static boolean isStable(long version) {
+        return (version & 1) == 0;
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 버전이 함께 조회된 유저 포인트
+ * - version 은 compareAndSet 의 기댓값으로 사용
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+}
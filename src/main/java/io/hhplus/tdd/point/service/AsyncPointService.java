@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.concurrency.KeyedSerialExecutor;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 포인트 서비스
+ * - 요청 스레드를 막지 않도록 CompletableFuture 를 반환하고, 블로킹 테이블 호출은 제한된 pointBlockingExecutor 에서만 실행
+ * - 같은 유저의 충전/사용은 유저별 순차 실행기로 도착 순서대로 하나씩 실행하므로 유저 락을 기다리며 스레드를 점유하지 않음
+ * - 정책 검사, 이력, 집계, 지표는 PointService 를 그대로 사용
+ * - 비동기 저장소 인터페이스를 두지 않고 요청마다 한 번만 블로킹 풀로 넘김 (갱신 실행기, 캐시, 이력 writer 는 동기 저장소 호출 위에서 동작)
+ */
+@Service
+public class AsyncPointService {
+
+    private final PointService pointService;
+    private final Executor pointBlockingExecutor;
+    private final KeyedSerialExecutor userSerialExecutor;
+
+    public AsyncPointService(PointService pointService, @Qualifier("pointBlockingExecutor") Executor pointBlockingExecutor) {
+        this.pointService = pointService;
+        this.pointBlockingExecutor = pointBlockingExecutor;
+        this.userSerialExecutor = new KeyedSerialExecutor(pointBlockingExecutor);
+    }
+
+    /**
+     * 유저 포인트 조회
+     * @param id
+     * @return
+     */
+    public CompletableFuture<UserPoint> getUserPoint(long id) {
+        return supplyBlocking(() -> pointService.getUserPoint(id));
+    }
+
+    /**
+     * 유저 포인트 이력 조회
+     * @param id
+     * @return
+     */
+    public CompletableFuture<List<PointHistory>> getUserPointHistoryList(long id) {
+        return supplyBlocking(() -> pointService.getUserPointHistoryList(id));
+    }
+
+    /**
+     * 포인트 충전
+     * @param id
+     * @param amount
+     * @return
+     */
+    public CompletableFuture<UserPoint> chargePoint(long id, long amount) {
+        return userSerialExecutor.submit(id, () -> pointService.chargePoint(id, amount));
+    }
+
+    /**
+     * 포인트 사용
+     * @param id
+     * @param amount
+     * @return
+     */
+    public CompletableFuture<UserPoint> usePoint(long id, long amount) {
+        return userSerialExecutor.submit(id, () -> pointService.usePoint(id, amount));
+    }
+
+    private <T> CompletableFuture<T> supplyBlocking(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, pointBlockingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", e));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.dto.PointBatchItem;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+@RequiredArgsConstructor
+public class PointBatchService {
+
+    private final PointService pointService;
+    private final Executor pointTaskExecutor;
+
+    /**
+     * 포인트 충전/사용 일괄 처리
+     * - 요청을 유저별로 묶어 유저마다 한 번의 조회/저장으로 처리하고, 서로 다른 유저는 병렬로 처리
+     * - 결과는 요청 순서와 같은 순서로 반환
+     * @param items
+     * @return
+     */
+    public List<PointBatchResult> applyBatch(List<PointBatchItem> items) {
+        if (items == null || items.isEmpty() || items.size() > PointConstant.MAX_BATCH_SIZE) {
+            throw new RuntimeException("일괄 처리 요청 수는 1 이상 " + PointConstant.MAX_BATCH_SIZE + " 이하여야 합니다.");
+        }
+
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            indexesByUser.computeIfAbsent(items.get(i).userId(), key -> new ArrayList<>()).add(i);
+        }
+
+        PointBatchResult[] results = new PointBatchResult[items.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        indexesByUser.forEach((userId, indexes) -> {
+            List<PointBatchItem> userItems = indexes.stream().map(items::get).toList();
+            futures.add(CompletableFuture
+                    .runAsync(() -> {
+                        List<PointBatchResult> userResults = pointService.applyBatch(userId, userItems);
+                        for (int i = 0; i < indexes.size(); i++) {
+                            results[indexes.get(i)] = userResults.get(i);
+                        }
+                    }, pointTaskExecutor)
+                    .exceptionally(e -> {
+                        // 유저 조회 실패 등 유저 단위 오류는 해당 유저의 모든 항목을 실패로 처리
+                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                        for (int index : indexes) {
+                            results[index] = PointBatchResult.failure(items.get(index), message);
+                        }
+                        return null;
+                    }));
+        });
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+        return Arrays.asList(results);
+    }
+}
@@ -1,15 +1,38 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointBatchItem;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointBulkResult;
+import io.hhplus.tdd.point.dto.PointDailyAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointBulkRead;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +40,10 @@ public class PointService {
 
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointAggregateRepository pointAggregateRepository;
+    private final PointUpdateExecutor pointUpdateExecutor;
+    private final PointMetrics pointMetrics;
 
     /**
      * 유저 포인트 조회
@@ -33,6 +60,29 @@ public class PointService {
         return userPoint;
     }
 
+    /**
+     * 여러 유저 포인트 조회
+     * - 중복된 ID 는 한 번만 조회
+     * - 조회하지 못한 유저는 저장소가 반환한 원인에 따라 실패 사유와 함께 반환하고 나머지 유저는 그대로 반환
+     * - 실행기가 가득 차 거절한 유저는 다시 시도하면 되므로 조회 실패와 다른 사유로 반환
+     * @param ids
+     * @return
+     */
+    public PointBulkResult getUserPoints(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > PointConstant.MAX_BULK_READ_SIZE) {
+            throw new RuntimeException("조회 유저 수는 1 이상 " + PointConstant.MAX_BULK_READ_SIZE + " 이하여야 합니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        UserPointBulkRead bulkRead = userPointRepository.selectByIds(distinctIds);
+
+        Map<Long, String> failures = new LinkedHashMap<>();
+        bulkRead.failures().forEach((id, cause) -> failures.put(id, cause instanceof RejectedExecutionException
+                ? "요청이 많아 조회하지 못했습니다. 잠시 후 다시 시도해주세요."
+                : "포인트를 조회하지 못했습니다."));
+        return new PointBulkResult(bulkRead.userPoints(), failures);
+    }
+
     /**
      * 유저 포인트 이력 조회
      * @param id
@@ -40,35 +90,99 @@ public class PointService {
      */
     public List<PointHistory> getUserPointHistoryList(long id) {
         getUserPoint(id);
+        // 아직 저장되지 않은 본인 이력이 있으면 저장될 때까지 대기
+        pointHistoryWriter.awaitFlushed(id);
         return pointHistoryRepository.selectAllByUserId(id);
     }
 
     /**
-     * 포인트 충전
+     * 유저 포인트 이력 페이지 조회
      * @param id
-     * @param amount
+     * @param condition
      * @return
      */
-    public synchronized UserPoint chargePoint(long id, long amount) {
-        if (amount < PointConstant.MIN_CHARGE_POINT) {
-            throw new RuntimeException("최소 충전 포인트는 " + PointConstant.MIN_CHARGE_POINT + "P 이상이어야 합니다.");
+    public PointHistoryPage getUserPointHistoryPage(long id, PointHistoryCondition condition) {
+        if (condition.size() < 1 || condition.size() > PointConstant.MAX_HISTORY_PAGE_SIZE) {
+            throw new RuntimeException("조회 개수는 1 이상 " + PointConstant.MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
         }
 
-        UserPoint userPoint = getUserPoint(id);
+        getUserPoint(id);
+        pointHistoryWriter.awaitFlushed(id);
+        return pointHistoryRepository.selectPageByUserId(id, condition);
+    }
 
-        long chargedPoint = userPoint.point() + amount;
-        if (chargedPoint > PointConstant.MAX_POINT) {
-            throw new RuntimeException("충전 후 보유 포인트는 " + PointConstant.MAX_POINT + "P를 초과할 수 없습니다.");
-        }
+    /**
+     * 유저 포인트 이력 내보내기
+     * - 유저 확인과 저장 대기는 호출할 때 바로 처리해, 응답을 보내기 전에 오류를 확인할 수 있도록 함
+     * - 반환한 함수는 전체 이력을 한 번에 조회하지 않고 일정 개수씩 나눠 consumer 에 전달
+     * @param id
+     * @return
+     */
+    public Consumer<Consumer<List<PointHistory>>> exportUserPointHistories(long id) {
+        getUserPoint(id);
+        pointHistoryWriter.awaitFlushed(id);
+        return consumer -> exportHistories(id, consumer);
+    }
 
-        UserPoint updatedUserPoint = userPointRepository.insertOrUpdate(id, userPoint.point() + amount);
-        if (updatedUserPoint == null) {
-            throw new RuntimeException("포인트 충전 오류");
+    /**
+     * 전체 유저 포인트 이력 내보내기
+     * - 유저 목록은 호출할 때 바로 조회
+     * @return
+     */
+    public Consumer<Consumer<List<PointHistory>>> exportAllPointHistories() {
+        List<Long> userIds = pointHistoryRepository.selectUserIds();
+        return consumer -> {
+            for (long userId : userIds) {
+                exportHistories(userId, consumer);
+            }
+        };
+    }
+
+    /**
+     * 유저 포인트 이력 집계 조회
+     * @param id
+     * @return
+     */
+    public PointAggregate getUserPointAggregate(long id) {
+        getUserPoint(id);
+        return pointAggregateRepository.findByUserId(id);
+    }
+
+    /**
+     * 유저 포인트 일별 집계 조회
+     * @param id
+     * @param from
+     * @param to
+     * @return
+     */
+    public List<PointDailyAggregate> getUserPointDailyAggregates(long id, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= PointConstant.MAX_DAILY_AGGREGATE_DAYS) {
+            throw new RuntimeException("조회 기간은 " + PointConstant.MAX_DAILY_AGGREGATE_DAYS + "일 이하여야 합니다.");
         }
 
-        pointHistoryRepository.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+        getUserPoint(id);
+        return pointAggregateRepository.findDailyByUserId(id, from, to);
+    }
 
-        return updatedUserPoint;
+    /**
+     * 포인트 충전
+     * - 금액 검사에서 거절하면 미리 만들어 둔 정책 예외를 사용하고 람다 없이 지표를 기록 (할당 없음)
+     * - 유저 락 안에서 거절하면 (최대 포인트 초과) 계산/확정 람다와 유저 락 항목은 할당됨
+     * @param id
+     * @param amount
+     * @return
+     */
+    public UserPoint chargePoint(long id, long amount) {
+        try {
+            validateChargeAmount(amount);
+            UserPoint userPoint = pointUpdateExecutor.update(id, point -> chargedPoint(point, amount),
+                    updatedUserPoint -> recordHistory(id, amount, TransactionType.CHARGE, System.currentTimeMillis()));
+            pointMetrics.accepted(TransactionType.CHARGE);
+            return userPoint;
+        } catch (PointPolicyException e) {
+            pointMetrics.rejected(TransactionType.CHARGE, e.getRule());
+            throw e;
+        }
     }
 
     /**
@@ -77,30 +191,149 @@ public class PointService {
      * @param amount
      * @return
      */
-    public synchronized UserPoint usePoint(long id, long amount) {
-        if (amount < PointConstant.MIN_USE_POINT) {
-            throw new RuntimeException("최소 사용 포인트는 " + PointConstant.MIN_USE_POINT + "P 이상이어야 합니다.");
+    public UserPoint usePoint(long id, long amount) {
+        try {
+            validateUseAmount(amount);
+            UserPoint userPoint = pointUpdateExecutor.update(id, point -> usedPoint(point, amount),
+                    updatedUserPoint -> recordHistory(id, amount, TransactionType.USE, System.currentTimeMillis()));
+            pointMetrics.accepted(TransactionType.USE);
+            return userPoint;
+        } catch (PointPolicyException e) {
+            pointMetrics.rejected(TransactionType.USE, e.getRule());
+            throw e;
         }
+    }
 
-        UserPoint userPoint = getUserPoint(id);
+    /**
+     * 한 유저의 포인트 충전/사용 일괄 처리
+     * - 포인트 조회와 저장은 한 번씩만 하고, 요청 순서대로 정책을 적용
+     * - 정책에 맞지 않는 요청은 실패로 기록하고 다음 요청을 계속 처리
+     * - 모든 요청이 실패하면 저장하지 않음
+     * @param id
+     * @param items
+     * @return
+     */
+    public List<PointBatchResult> applyBatch(long id, List<PointBatchItem> items) {
+        long[] balances = new long[items.size()];
+        RuntimeException[] errors = new RuntimeException[items.size()];
 
-        if (!canUsePoint(userPoint.point(), amount)) {
-            throw new RuntimeException("보유 포인트가 부족합니다.");
+        UserPoint updatedUserPoint = pointUpdateExecutor.update(id, point -> {
+            // 재시도하면 다시 계산하므로 이전 시도의 결과는 초기화
+            Arrays.fill(errors, null);
+            boolean applied = false;
+            for (int i = 0; i < items.size(); i++) {
+                try {
+                    point = applyItem(point, items.get(i));
+                    balances[i] = point;
+                    applied = true;
+                } catch (RuntimeException e) {
+                    errors[i] = e;
+                }
+            }
+            return applied ? point : PointUpdateExecutor.NO_CHANGE;
+        }, committed -> {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < items.size(); i++) {
+                if (errors[i] == null) {
+                    recordHistory(id, items.get(i).amount(), items.get(i).type(), now);
+                }
+            }
+        });
+
+        List<PointBatchResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            PointBatchItem item = items.get(i);
+            if (errors[i] != null) {
+                if (errors[i] instanceof PointPolicyException policyException) {
+                    pointMetrics.rejected(item.type(), policyException.getRule());
+                }
+                results.add(PointBatchResult.failure(item, errors[i].getMessage()));
+            } else {
+                pointMetrics.accepted(item.type());
+                results.add(PointBatchResult.success(item, new UserPoint(id, balances[i], updatedUserPoint.updateMillis())));
+            }
         }
+        return results;
+    }
 
-        long usedPoint = userPoint.point() - amount;
-        if (usedPoint < PointConstant.MIN_POINT) {
-            throw new RuntimeException("사용 후 잔여 포인트는 " + PointConstant.MIN_POINT + "P 이상이어야 합니다.");
+    /**
+     * 확정된 충전/사용을 이력 저장 요청과 집계에 반영
+     * @param id
+     * @param amount
+     * @param type
+     * @param updateMillis
+     */
+    private void recordHistory(long id, long amount, TransactionType type, long updateMillis) {
+        pointHistoryWriter.write(id, amount, type, updateMillis);
+        pointAggregateRepository.record(id, amount, type, updateMillis);
+    }
+
+    private void exportHistories(long id, Consumer<List<PointHistory>> consumer) {
+        Long cursor = null;
+        do {
+            PointHistoryCondition condition = new PointHistoryCondition(cursor, null, null, null, PointConstant.HISTORY_EXPORT_CHUNK_SIZE);
+            PointHistoryPage page = pointHistoryRepository.selectPageByUserId(id, condition);
+            if (!page.histories().isEmpty()) {
+                consumer.accept(page.histories());
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    private long applyItem(long point, PointBatchItem item) {
+        if (item.type() == null) {
+            throw new RuntimeException("트랜잭션 종류가 없습니다.");
         }
+        if (item.type() == TransactionType.CHARGE) {
+            validateChargeAmount(item.amount());
+            return chargedPoint(point, item.amount());
+        }
+        validateUseAmount(item.amount());
+        return usedPoint(point, item.amount());
+    }
 
-        UserPoint updatedUserPoint = userPointRepository.insertOrUpdate(id, usedPoint);
-        if (updatedUserPoint == null) {
-            throw new RuntimeException("포인트 사용 오류");
+    private void validateChargeAmount(long amount) {
+        if (amount < PointConstant.MIN_CHARGE_POINT) {
+            throw PointPolicyException.of(PointPolicyException.Rule.MIN_CHARGE_POINT);
         }
+    }
 
-        pointHistoryRepository.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+    private void validateUseAmount(long amount) {
+        if (amount < PointConstant.MIN_USE_POINT) {
+            throw PointPolicyException.of(PointPolicyException.Rule.MIN_USE_POINT);
+        }
+    }
 
-        return updatedUserPoint;
+    /**
+     * 충전 후 포인트
+     * @param point
+     * @param amount
+     * @return
+     */
+    private long chargedPoint(long point, long amount) {
+        long chargedPoint = point + amount;
+        if (chargedPoint > PointConstant.MAX_POINT) {
+            throw PointPolicyException.of(PointPolicyException.Rule.MAX_POINT);
+        }
+        return chargedPoint;
+    }
+
+    /**
+     * 사용 후 포인트
+     * @param point
+     * @param amount
+     * @return
+     */
+    private long usedPoint(long point, long amount) {
+        if (!canUsePoint(point, amount)) {
+            throw PointPolicyException.of(PointPolicyException.Rule.INSUFFICIENT_POINT);
+        }
+
+        long usedPoint = point - amount;
+        if (usedPoint < PointConstant.MIN_POINT) {
+            throw PointPolicyException.of(PointPolicyException.Rule.MIN_POINT);
+        }
+        return usedPoint;
     }
 
     /**
@@ -0,0 +1,260 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.dto.PointAuditResult;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.storage.PointSnapshot;
+import io.hhplus.tdd.point.storage.PointSnapshotStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 포인트 스냅샷
+ * - 백그라운드 스레드가 주기적으로 유저별 포인트와 마지막으로 반영한 이력 ID 를 스냅샷으로 남김
+ * - 새 스냅샷은 이전 스냅샷에 그 이후 이력만 더해 만들고, 유저 포인트 저장소나 유저 락을 사용하지 않으므로 충전/사용을 멈추지 않음
+ * - 이전 스냅샷 이후 이력이 추가된 유저만 다시 계산하고, 나머지 유저는 이전 스냅샷 값을 그대로 사용
+ * - 복원과 검증은 최신 스냅샷에서 시작해 이후 이력만 반영하므로 비용은 마지막 스냅샷 이후 이력 수에 비례
+ * - point.snapshot.directory 를 설정하면 스냅샷을 파일로 남기고, 시작할 때 최신 스냅샷을 읽어 이어서 만듦
+ * - 유저 포인트 저장소, 이력 인덱스, 집계는 시작할 때 스냅샷을 사용하지 않고 각자의 로그/이력으로 복구
+ *   (이력은 비동기로 저장되므로 스냅샷이 저장된 포인트보다 늦을 수 있고, 이력 조회와 집계에는 전체 이력이 필요)
+ * - 이력 ID 는 단일 writer(PointHistoryWriter)가 순서대로 발급하므로 selectLastId 이하의 이력은 모두 조회 가능하다고 봄
+ */
+@Service
+public class PointSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotService.class);
+
+    // 검증 중 포인트가 바뀌면 다시 검증하는 최대 횟수
+    private static final int AUDIT_ATTEMPTS = 3;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final Duration interval;
+
+    private volatile PointSnapshot latest = PointSnapshot.empty();
+    // 이력 저장소에서 꺼냈지만 아직 스냅샷에 반영하지 못한 유저 (스냅샷 생성에 실패하면 다음 생성 때 다시 반영)
+    private final TreeSet<Long> updatedUserIds = new TreeSet<>();
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public PointSnapshotService(PointHistoryRepository pointHistoryRepository,
+                                UserPointRepository userPointRepository,
+                                PointHistoryWriter pointHistoryWriter,
+                                @Value("${point.snapshot.directory:}") String directory,
+                                @Value("${point.snapshot.interval:60s}") Duration interval) {
+        this(pointHistoryRepository, userPointRepository, pointHistoryWriter,
+                directory.isBlank() ? null : new PointSnapshotStore(Path.of(directory)), interval);
+    }
+
+    PointSnapshotService(PointHistoryRepository pointHistoryRepository,
+                         UserPointRepository userPointRepository,
+                         PointHistoryWriter pointHistoryWriter,
+                         PointSnapshotStore pointSnapshotStore,
+                         Duration interval) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointSnapshotStore = pointSnapshotStore;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (pointSnapshotStore != null) {
+            PointSnapshot loaded = pointSnapshotStore.loadLatest();
+            long lastHistoryId = pointHistoryRepository.selectLastId();
+            if (loaded.lastHistoryId() > lastHistoryId) {
+                // 스냅샷을 만든 이력이 남아 있지 않으면 (메모리 저장소 재시작, 로그 유실) 처음부터 다시 만듦
+                log.warn("스냅샷 이후 이력이 없어 스냅샷을 사용하지 않습니다. snapshotHistoryId={}, lastHistoryId={}",
+                        loaded.lastHistoryId(), lastHistoryId);
+            } else {
+                latest = loaded;
+                log.info("스냅샷 로드 users={}, snapshotHistoryId={}, lastHistoryId={}", loaded.size(), loaded.lastHistoryId(), lastHistoryId);
+            }
+        }
+
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 시작 직후 한 번 만들어 로드한 스냅샷 이후 이력을 따라잡음
+        scheduler.scheduleWithFixedDelay(this::takeSnapshotQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 최신 스냅샷
+     * @return
+     */
+    public PointSnapshot latestSnapshot() {
+        return latest;
+    }
+
+    /**
+     * 스냅샷 생성
+     * - 이전 스냅샷에 이전 스냅샷 이후부터 현재 마지막 이력까지를 반영
+     * - 이전 스냅샷 이후 이력이 추가된 유저만 이력을 조회
+     * @return
+     */
+    public synchronized PointSnapshot takeSnapshot() {
+        PointSnapshot base = latest;
+        long lastHistoryId = pointHistoryRepository.selectLastId();
+        if (lastHistoryId <= base.lastHistoryId()) {
+            return base;
+        }
+
+        updatedUserIds.addAll(pointHistoryRepository.drainUpdatedUserIds(lastHistoryId));
+        PointSnapshot.Builder builder = new PointSnapshot.Builder(lastHistoryId, System.currentTimeMillis(), base.size() + updatedUserIds.size());
+        long[] state = new long[2];
+        int baseIndex = 0;
+        for (long userId : updatedUserIds) {
+            // 이력이 추가되지 않은 스냅샷 유저는 그대로 유지
+            for (; baseIndex < base.size() && base.userId(baseIndex) < userId; baseIndex++) {
+                builder.add(base.userId(baseIndex), base.point(baseIndex), base.updateMillis(baseIndex));
+            }
+            if (baseIndex < base.size() && base.userId(baseIndex) == userId) {
+                state[0] = base.point(baseIndex);
+                state[1] = base.updateMillis(baseIndex);
+                baseIndex++;
+            } else {
+                state[0] = 0;
+                state[1] = 0;
+            }
+            replay(userId, base.lastHistoryId(), lastHistoryId, state);
+            builder.add(userId, state[0], state[1]);
+        }
+        for (; baseIndex < base.size(); baseIndex++) {
+            builder.add(base.userId(baseIndex), base.point(baseIndex), base.updateMillis(baseIndex));
+        }
+
+        PointSnapshot snapshot = builder.build();
+        if (pointSnapshotStore != null) {
+            pointSnapshotStore.save(snapshot);
+        }
+        latest = snapshot;
+        updatedUserIds.clear();
+        log.debug("스냅샷 생성 users={}, snapshotHistoryId={}", snapshot.size(), snapshot.lastHistoryId());
+        return snapshot;
+    }
+
+    /**
+     * 유저 포인트 복원
+     * - 최신 스냅샷의 포인트에 스냅샷 이후 이력을 반영
+     * - updateMillis 는 마지막으로 반영한 이력 시각
+     * @param userId
+     * @return
+     */
+    public UserPoint restore(long userId) {
+        Restored restored = restoreState(userId);
+        return new UserPoint(userId, restored.point(), restored.updateMillis());
+    }
+
+    /**
+     * 유저 포인트 검증
+     * - 저장된 포인트와 스냅샷에서 복원한 포인트를 비교
+     * - 검증 중 충전/사용이 끝나 두 값이 다르면 AUDIT_ATTEMPTS 번까지 다시 비교
+     * @param userId
+     * @return
+     */
+    public PointAuditResult audit(long userId) {
+        PointAuditResult result = null;
+        for (int attempt = 0; attempt < AUDIT_ATTEMPTS; attempt++) {
+            UserPoint userPoint = userPointRepository.selectById(userId);
+            long actualPoint = userPoint == null ? 0 : userPoint.point();
+            Restored restored = restoreState(userId);
+            result = new PointAuditResult(userId, restored.snapshotHistoryId(), restored.replayed(),
+                    restored.point(), actualPoint, restored.point() == actualPoint);
+            if (result.matched()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Restored restoreState(long userId) {
+        // 아직 저장되지 않은 본인 이력이 있으면 저장될 때까지 대기
+        pointHistoryWriter.awaitFlushed(userId);
+
+        PointSnapshot snapshot = latest;
+        long[] state = new long[2];
+        int index = snapshot.indexOf(userId);
+        if (index >= 0) {
+            state[0] = snapshot.point(index);
+            state[1] = snapshot.updateMillis(index);
+        }
+        int replayed = replay(userId, snapshot.lastHistoryId(), Long.MAX_VALUE, state);
+        return new Restored(snapshot.lastHistoryId(), replayed, state[0], state[1]);
+    }
+
+    /**
+     * afterHistoryId 초과 untilHistoryId 이하의 이력을 state (포인트, 마지막 이력 시각) 에 반영
+     * @param userId
+     * @param afterHistoryId
+     * @param untilHistoryId
+     * @param state
+     * @return 반영한 이력 수
+     */
+    private int replay(long userId, long afterHistoryId, long untilHistoryId, long[] state) {
+        int replayed = 0;
+        Long cursor = afterHistoryId;
+        do {
+            PointHistoryCondition condition = new PointHistoryCondition(cursor, null, null, null, PointConstant.HISTORY_EXPORT_CHUNK_SIZE);
+            PointHistoryPage page = pointHistoryRepository.selectPageByUserId(userId, condition);
+            for (PointHistory pointHistory : page.histories()) {
+                if (pointHistory.id() > untilHistoryId) {
+                    return replayed;
+                }
+                state[0] += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+                state[1] = pointHistory.updateMillis();
+                replayed++;
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return replayed;
+    }
+
+    private void takeSnapshotQuietly() {
+        try {
+            takeSnapshot();
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 주기 실행이 멈추므로 기록만 하고 다음 주기에 다시 시도
+            log.error("스냅샷 생성 실패", e);
+        }
+    }
+
+    private record Restored(long snapshotHistoryId, int replayed, long point, long updateMillis) {
+    }
+}
@@ -0,0 +1,320 @@
+package io.hhplus.tdd.point.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 추가 전용(append-only) 메모리 매핑 로그
+ * - 레코드는 40 바이트 고정 길이 : sequence, userId, amount, updateMillis (long 4개) + type (1) + 예약 (3) + CRC32 (4)
+ * - 세그먼트 파일({name}-00000000.seg)마다 정해진 레코드 수만큼 기록하고, 가득 차면 디스크에 반영한 뒤 다음 세그먼트로 넘어감
+ * - 디스크 반영(fsync)은 flusher 스레드 하나가 담당하며, 이전 반영이 끝난 뒤 그동안 추가된 레코드를 한 번에 반영 (group commit)
+ * - 열 때 세그먼트를 처음부터 읽어 sequence 가 이어지고 CRC 가 맞는 레코드까지만 복구하고 나머지는 지움 (crash recovery)
+ */
+public class PointLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLog.class);
+
+    public static final int RECORD_SIZE = 40;
+
+    private static final int TYPE_OFFSET = 32;
+    private static final int CRC_OFFSET = 36;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final String name;
+    private final int recordsPerSegment;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 반영할 레코드가 생김 (flusher 대기)
+    private final Condition appended = lock.newCondition();
+    // 디스크 반영 완료 (awaitDurable 대기)
+    private final Condition flushed = lock.newCondition();
+    // 락 안에서만 사용
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32 crc32 = new CRC32();
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private int recordIndex;
+    private long lastSequence;
+    private long durableSequence;
+    private volatile boolean running;
+    private final Thread flusher;
+
+    /**
+     * 로그를 열고 기존 레코드를 순서대로 replay 에 전달
+     * @param directory
+     * @param name
+     * @param recordsPerSegment
+     * @param replay
+     */
+    public PointLog(Path directory, String name, int recordsPerSegment, Consumer<PointLogRecord> replay) {
+        if (recordsPerSegment < 1) {
+            throw new RuntimeException("세그먼트 레코드 수는 1 이상이어야 합니다.");
+        }
+        // 세그먼트는 하나의 MappedByteBuffer 로 매핑하므로 int 범위를 넘을 수 없음
+        if ((long) recordsPerSegment * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new RuntimeException("세그먼트 레코드 수는 " + Integer.MAX_VALUE / RECORD_SIZE + " 이하여야 합니다.");
+        }
+        this.directory = directory;
+        this.name = name;
+        this.recordsPerSegment = recordsPerSegment;
+
+        try {
+            Files.createDirectories(directory);
+            recover(replay);
+        } catch (IOException e) {
+            throw new RuntimeException("포인트 로그를 열 수 없습니다. " + directory.resolve(name), e);
+        }
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "point-log-flusher-" + name);
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 레코드 추가
+     * - 디스크 반영은 기다리지 않으며, 필요하면 반환된 sequence 로 awaitDurable 호출
+     * @param userId
+     * @param amount
+     * @param updateMillis
+     * @param type
+     * @return 추가된 레코드의 sequence
+     */
+    public long append(long userId, long amount, long updateMillis, byte type) {
+        lock.lock();
+        try {
+            if (!running) {
+                throw new RuntimeException("포인트 로그가 닫혔습니다.");
+            }
+            if (recordIndex == recordsPerSegment) {
+                roll();
+            }
+
+            long sequence = lastSequence + 1;
+            ByteBuffer record = ByteBuffer.wrap(scratch);
+            record.putLong(0, sequence)
+                    .putLong(8, userId)
+                    .putLong(16, amount)
+                    .putLong(24, updateMillis)
+                    .put(TYPE_OFFSET, type);
+            crc32.reset();
+            crc32.update(scratch, 0, CRC_OFFSET);
+            record.putInt(CRC_OFFSET, (int) crc32.getValue());
+            segment.put(Math.toIntExact((long) recordIndex * RECORD_SIZE), scratch, 0, RECORD_SIZE);
+
+            recordIndex++;
+            lastSequence = sequence;
+            appended.signal();
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * sequence 까지의 레코드가 디스크에 반영될 때까지 대기
+     * @param sequence
+     */
+    public void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (!running) {
+                    throw new RuntimeException("포인트 로그가 닫혔습니다.");
+                }
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("포인트 로그 반영 대기가 중단되었습니다.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 추가된 레코드의 sequence
+     * @return
+     */
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 레코드를 디스크에 반영하고 닫음
+     * - 대기 중 인터럽트되어도 반영이 끝날 때까지 기다린 뒤 인터럽트 상태를 복원
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            running = false;
+            appended.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            MappedByteBuffer targetSegment;
+            lock.lock();
+            try {
+                while (running && durableSequence == lastSequence) {
+                    appended.awaitUninterruptibly();
+                }
+                if (durableSequence == lastSequence) {
+                    // 종료 요청 후 남은 레코드가 없으면 대기 중인 요청을 깨우고 종료
+                    flushed.signalAll();
+                    return;
+                }
+                target = lastSequence;
+                targetSegment = segment;
+            } finally {
+                lock.unlock();
+            }
+
+            // 이전 세그먼트는 넘어갈 때 이미 반영했으므로 현재 세그먼트만 반영
+            targetSegment.force();
+
+            lock.lock();
+            try {
+                durableSequence = Math.max(durableSequence, target);
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void roll() {
+        segment.force();
+        try {
+            segmentIndex++;
+            segment = map(segmentPath(segmentIndex));
+            recordIndex = 0;
+        } catch (IOException e) {
+            throw new RuntimeException("포인트 로그 세그먼트를 만들 수 없습니다.", e);
+        }
+    }
+
+    private void recover(Consumer<PointLogRecord> replay) throws IOException {
+        List<Path> segments = segmentPaths();
+        if (segments.isEmpty()) {
+            segmentIndex = 0;
+            segment = map(segmentPath(0));
+            recordIndex = 0;
+            return;
+        }
+
+        boolean truncated = false;
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            if (!path.equals(segmentPath(i))) {
+                throw new RuntimeException("포인트 로그 세그먼트가 연속되지 않습니다. " + path);
+            }
+            if (truncated) {
+                // 손상된 레코드 이후의 세그먼트는 이어지지 않으므로 삭제
+                log.warn("포인트 로그 손상 이후 세그먼트 삭제 {}", path);
+                Files.delete(path);
+                continue;
+            }
+
+            segmentIndex = i;
+            segment = map(path);
+            recordIndex = replaySegment(segment, replay);
+            truncated = recordIndex < recordsPerSegment;
+        }
+
+        if (truncated) {
+            // 마지막 레코드 이후에 남은 이전 데이터가 다음 복구 때 읽히지 않도록 지움
+            long segmentBytes = (long) recordsPerSegment * RECORD_SIZE;
+            for (long offset = (long) recordIndex * RECORD_SIZE; offset < segmentBytes; offset += Long.BYTES) {
+                segment.putLong(Math.toIntExact(offset), 0L);
+            }
+            segment.force();
+        }
+        durableSequence = lastSequence;
+        log.info("포인트 로그 복구 완료 name={} lastSequence={}", name, lastSequence);
+    }
+
+    private int replaySegment(MappedByteBuffer buffer, Consumer<PointLogRecord> replay) {
+        for (int index = 0; index < recordsPerSegment; index++) {
+            buffer.get(Math.toIntExact((long) index * RECORD_SIZE), scratch, 0, RECORD_SIZE);
+            ByteBuffer record = ByteBuffer.wrap(scratch);
+
+            long sequence = record.getLong(0);
+            crc32.reset();
+            crc32.update(scratch, 0, CRC_OFFSET);
+            if (sequence != lastSequence + 1 || record.getInt(CRC_OFFSET) != (int) crc32.getValue()) {
+                return index;
+            }
+
+            replay.accept(new PointLogRecord(sequence, record.getLong(8), record.getLong(16), record.getLong(24), record.get(TYPE_OFFSET)));
+            lastSequence = sequence;
+        }
+        return recordsPerSegment;
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        long size = (long) recordsPerSegment * RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() != 0 && channel.size() != size) {
+                throw new RuntimeException("포인트 로그 세그먼트 크기가 설정과 다릅니다. " + path);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private List<Path> segmentPaths() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return new ArrayList<>(paths
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.startsWith(name + "-") && fileName.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s-%08d%s", name, index, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.storage;
+
+/**
+ * 포인트 로그 레코드
+ * - 이력 로그 : amount 는 충전/사용 금액, type 은 TransactionType 순서
+ * - 유저 포인트 로그 : amount 는 저장된 포인트
+ * @param sequence 로그 안에서 1부터 1씩 증가하는 번호 (이력 로그에서는 이력 ID)
+ */
+public record PointLogRecord(
+        long sequence,
+        long userId,
+        long amount,
+        long updateMillis,
+        byte type
+) {
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.storage;
+
+import java.util.Arrays;
+
+/**
+ * 유저 포인트 스냅샷
+ * - lastHistoryId 까지의 이력을 모두 반영한 유저별 포인트와 마지막 이력 시각
+ * - 유저 ID 오름차순으로 기본형 배열에 저장하고 조회는 이진 탐색
+ */
+public final class PointSnapshot {
+
+    private static final PointSnapshot EMPTY = new PointSnapshot(0, 0, new long[0], new long[0], new long[0], 0);
+
+    private final long lastHistoryId;
+    private final long createdMillis;
+    private final long[] userIds;
+    private final long[] points;
+    private final long[] updateMillis;
+    private final int size;
+
+    private PointSnapshot(long lastHistoryId, long createdMillis, long[] userIds, long[] points, long[] updateMillis, int size) {
+        this.lastHistoryId = lastHistoryId;
+        this.createdMillis = createdMillis;
+        this.userIds = userIds;
+        this.points = points;
+        this.updateMillis = updateMillis;
+        this.size = size;
+    }
+
+    /**
+     * 이력이 하나도 반영되지 않은 스냅샷
+     * @return
+     */
+    public static PointSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long lastHistoryId() {
+        return lastHistoryId;
+    }
+
+    public long createdMillis() {
+        return createdMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 유저 위치 (없으면 음수)
+     * @param userId
+     * @return
+     */
+    public int indexOf(long userId) {
+        return Arrays.binarySearch(userIds, 0, size, userId);
+    }
+
+    public long userId(int index) {
+        return userIds[index];
+    }
+
+    public long point(int index) {
+        return points[index];
+    }
+
+    public long updateMillis(int index) {
+        return updateMillis[index];
+    }
+
+    /**
+     * 스냅샷 생성
+     * - add 는 유저 ID 오름차순으로 호출해야 함
+     */
+    public static final class Builder {
+
+        private final long lastHistoryId;
+        private final long createdMillis;
+        private long[] userIds;
+        private long[] points;
+        private long[] updateMillis;
+        private int size;
+
+        public Builder(long lastHistoryId, long createdMillis, int expectedSize) {
+            this.lastHistoryId = lastHistoryId;
+            this.createdMillis = createdMillis;
+            int capacity = Math.max(expectedSize, 16);
+            this.userIds = new long[capacity];
+            this.points = new long[capacity];
+            this.updateMillis = new long[capacity];
+        }
+
+        public Builder add(long userId, long point, long updateMillis) {
+            if (size > 0 && userIds[size - 1] >= userId) {
+                throw new IllegalArgumentException("스냅샷 유저 ID 는 오름차순이어야 합니다. userId=" + userId);
+            }
+            if (size == userIds.length) {
+                int capacity = userIds.length * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                points = Arrays.copyOf(points, capacity);
+                this.updateMillis = Arrays.copyOf(this.updateMillis, capacity);
+            }
+            userIds[size] = userId;
+            points[size] = point;
+            this.updateMillis[size] = updateMillis;
+            size++;
+            return this;
+        }
+
+        public PointSnapshot build() {
+            return new PointSnapshot(lastHistoryId, createdMillis, userIds, points, updateMillis, size);
+        }
+    }
+}
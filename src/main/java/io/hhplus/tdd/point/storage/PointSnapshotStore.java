@@ -0,0 +1,164 @@
+package io.hhplus.tdd.point.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 유저 포인트 스냅샷 파일 저장소
+ * - 파일 하나에 스냅샷 하나 : 헤더 (magic, version, lastHistoryId, createdMillis, 유저 수) + 유저별 (userId, point, updateMillis) + CRC32
+ * - 임시 파일에 쓰고 디스크에 반영한 뒤 이름을 바꿔(atomic move) 쓰다 만 스냅샷이 보이지 않도록 함
+ * - 최근 스냅샷 KEEP_COUNT 개만 남기고, 읽을 때 최신 파일이 깨져 있으면 이전 파일을 사용
+ */
+public class PointSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotStore.class);
+
+    private static final int MAGIC = 0x50534E50;
+    private static final int VERSION = 1;
+    private static final int KEEP_COUNT = 2;
+    private static final String PREFIX = "point-snapshot-";
+    private static final String SUFFIX = ".snap";
+    // 헤더 (magic, version, lastHistoryId, createdMillis, 유저 수), 유저별 (userId, point, updateMillis), CRC32 크기
+    private static final long HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES * 2;
+    private static final long USER_BYTES = Long.BYTES * 3;
+    private static final long CRC_BYTES = Integer.BYTES;
+
+    private final Path directory;
+
+    public PointSnapshotStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 디렉터리를 만들 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    /**
+     * 스냅샷 저장
+     * @param snapshot
+     * @return
+     */
+    public Path save(PointSnapshot snapshot) {
+        // 파일 이름 순서가 lastHistoryId 순서가 되도록 0 으로 채움
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, snapshot.lastHistoryId(), SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc32 = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)), crc32));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeLong(snapshot.createdMillis());
+            out.writeInt(snapshot.size());
+            for (int i = 0; i < snapshot.size(); i++) {
+                out.writeLong(snapshot.userId(i));
+                out.writeLong(snapshot.point(i));
+                out.writeLong(snapshot.updateMillis(i));
+            }
+            out.writeInt((int) crc32.getValue());
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다. file=" + temp, e);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다. file=" + target, e);
+        }
+
+        deleteOldSnapshots();
+        return target;
+    }
+
+    /**
+     * 읽을 수 있는 가장 최근 스냅샷 (없으면 빈 스냅샷)
+     * @return
+     */
+    public PointSnapshot loadLatest() {
+        for (Path file : snapshotFiles()) {
+            try {
+                return read(file);
+            } catch (IOException e) {
+                log.warn("스냅샷 파일을 읽을 수 없어 이전 스냅샷을 사용합니다. file={}", file, e);
+            }
+        }
+        return PointSnapshot.empty();
+    }
+
+    private PointSnapshot read(Path file) throws IOException {
+        CRC32 crc32 = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), crc32))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("스냅샷 형식이 아닙니다.");
+            }
+            long lastHistoryId = in.readLong();
+            long createdMillis = in.readLong();
+            int size = in.readInt();
+            // 유저 수만큼 배열을 만들기 전에 파일 크기와 맞는지 확인 (CRC 는 끝까지 읽어야 확인 가능)
+            if (size < 0 || Files.size(file) != HEADER_BYTES + USER_BYTES * size + CRC_BYTES) {
+                throw new IOException("스냅샷 유저 수가 올바르지 않습니다. size=" + size);
+            }
+
+            PointSnapshot.Builder builder = new PointSnapshot.Builder(lastHistoryId, createdMillis, size);
+            for (int i = 0; i < size; i++) {
+                builder.add(in.readLong(), in.readLong(), in.readLong());
+            }
+
+            int expected = (int) crc32.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("스냅샷 CRC 가 맞지 않습니다.");
+            }
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void deleteOldSnapshots() {
+        List<Path> files = snapshotFiles();
+        for (Path file : files.subList(Math.min(KEEP_COUNT, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("이전 스냅샷 파일을 지울 수 없습니다. file={}", file, e);
+            }
+        }
+    }
+
+    // 최신 순
+    private List<Path> snapshotFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 디렉터리를 읽을 수 없습니다. directory=" + directory, e);
+        }
+    }
+}
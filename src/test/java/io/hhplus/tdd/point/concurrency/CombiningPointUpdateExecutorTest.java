@@ -0,0 +1,210 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombiningPointUpdateExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("진행 중인 갱신 뒤에 들어온 갱신은 한 번의 저장으로 합치고, 갱신마다 정책 검사와 결과를 따로 처리")
+    void testCombine() throws Exception {
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StubExecutor delegate = new StubExecutor(90_000L, firstEntered, release);
+        CombiningPointUpdateExecutor executor = new CombiningPointUpdateExecutor(delegate, new PointMetrics(meterRegistry));
+        List<Long> committedPoints = new ArrayList<>();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        try {
+            CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(
+                    () -> executor.update(1L, charge(1_000L), committed -> committedPoints.add(committed.point())), threads);
+            firstEntered.await();
+
+            // 첫 갱신이 저장 중일 때 들어온 갱신 (두 번째는 최대 보유 포인트 초과)
+            List<CompletableFuture<UserPoint>> combined = new ArrayList<>();
+            for (long amount : new long[]{5_000L, 9_000L, 4_000L}) {
+                combined.add(CompletableFuture.supplyAsync(
+                        () -> executor.update(1L, charge(amount), committed -> committedPoints.add(committed.point())), threads));
+                while (executor.pendingCount(1L) < combined.size()) {
+                    Thread.onSpinWait();
+                }
+            }
+            release.countDown();
+
+            assertEquals(91_000L, first.join().point());
+            assertEquals(96_000L, combined.get(0).join().point());
+            CompletionException exception = assertThrows(CompletionException.class, () -> combined.get(1).join());
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertEquals(100_000L, combined.get(2).join().point());
+
+            assertEquals(2, delegate.calls.get());
+            assertEquals(List.of(91_000L, 96_000L, 100_000L), committedPoints);
+            assertEquals(100_000L, delegate.point);
+            assertEquals(4.0, meterRegistry.get("point.write.combined").summary().totalAmount());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 유저를 동시에 갱신해도 모든 갱신이 한 번씩 반영")
+    void testConcurrentUpdate() {
+        StubExecutor delegate = new StubExecutor(0L, null, null);
+        CombiningPointUpdateExecutor executor = new CombiningPointUpdateExecutor(delegate, new PointMetrics(meterRegistry));
+        AtomicInteger commits = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+
+        try {
+            List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> executor.update(1L, charge(100L), committed -> commits.incrementAndGet()), threads));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            assertEquals(50_000L, delegate.point);
+            assertEquals(500, commits.get());
+            assertTrue(delegate.calls.get() <= 500);
+            assertEquals(0, executor.pendingCount(1L));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("한 갱신의 onCommit 이 실패해도 함께 저장된 다른 갱신은 성공하고 onCommit 도 실행됨")
+    void testOnCommitFailureIsolated() throws Exception {
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StubExecutor delegate = new StubExecutor(0L, firstEntered, release);
+        CombiningPointUpdateExecutor executor = new CombiningPointUpdateExecutor(delegate, new PointMetrics(meterRegistry));
+        List<Long> committedPoints = new ArrayList<>();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        try {
+            CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> executor.update(1L, charge(1_000L), committed -> {}), threads);
+            firstEntered.await();
+
+            List<CompletableFuture<UserPoint>> combined = new ArrayList<>();
+            for (long amount : new long[]{100L, 200L, 300L}) {
+                combined.add(CompletableFuture.supplyAsync(() -> executor.update(1L, charge(amount), committed -> {
+                    if (amount == 200L) {
+                        throw new IllegalStateException("이력 저장 실패");
+                    }
+                    committedPoints.add(committed.point());
+                }), threads));
+                while (executor.pendingCount(1L) < combined.size()) {
+                    Thread.onSpinWait();
+                }
+            }
+            release.countDown();
+
+            assertEquals(1_000L, first.get(5, TimeUnit.SECONDS).point());
+            assertEquals(1_100L, combined.get(0).get(5, TimeUnit.SECONDS).point());
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> combined.get(1).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertEquals(1_600L, combined.get(2).get(5, TimeUnit.SECONDS).point());
+            assertEquals(List.of(1_100L, 1_600L), committedPoints);
+            assertEquals(1_600L, delegate.point);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 중 Error 가 발생해도 모은 갱신이 모두 완료되어 대기 중인 스레드가 남지 않음")
+    void testErrorCompletesAllOperations() throws Exception {
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StubExecutor delegate = new StubExecutor(0L, firstEntered, release);
+        CombiningPointUpdateExecutor executor = new CombiningPointUpdateExecutor(delegate, new PointMetrics(meterRegistry));
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+
+        try {
+            CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> executor.update(1L, charge(1_000L), committed -> {}), threads);
+            firstEntered.await();
+
+            List<CompletableFuture<UserPoint>> combined = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                combined.add(CompletableFuture.supplyAsync(() -> executor.update(1L, point -> {
+                    throw new OutOfMemoryError("테스트");
+                }, committed -> {}), threads));
+                while (executor.pendingCount(1L) < combined.size()) {
+                    Thread.onSpinWait();
+                }
+            }
+            release.countDown();
+
+            assertEquals(1_000L, first.get(5, TimeUnit.SECONDS).point());
+            for (CompletableFuture<UserPoint> future : combined) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+            }
+            assertEquals(0, executor.pendingCount(1L));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private LongUnaryOperator charge(long amount) {
+        return point -> {
+            if (point + amount > PointConstant.MAX_POINT) {
+                throw new IllegalStateException("최대 보유 포인트 초과");
+            }
+            return point + amount;
+        };
+    }
+
+    /**
+     * 한 유저의 포인트를 보관하는 실행기 (첫 갱신은 release 될 때까지 저장 중 상태로 대기)
+     */
+    private static class StubExecutor implements PointUpdateExecutor {
+
+        private final CountDownLatch firstEntered;
+        private final CountDownLatch release;
+        private final AtomicInteger calls = new AtomicInteger();
+        private long point;
+
+        private StubExecutor(long point, CountDownLatch firstEntered, CountDownLatch release) {
+            this.point = point;
+            this.firstEntered = firstEntered;
+            this.release = release;
+        }
+
+        @Override
+        public synchronized UserPoint update(long id, LongUnaryOperator calculator, Consumer<UserPoint> onCommit) {
+            if (calls.incrementAndGet() == 1 && firstEntered != null) {
+                firstEntered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            point = calculator.applyAsLong(point);
+            UserPoint userPoint = new UserPoint(id, point, System.currentTimeMillis());
+            onCommit.accept(userPoint);
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedSerialExecutorTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 겹치지 않고 제출 순서대로 실행")
+    void testSerialPerKey() {
+        KeyedSerialExecutor keyedSerialExecutor = new KeyedSerialExecutor(executorService);
+        int keyCount = 4;
+        int taskCount = 200;
+        List<List<Integer>> executed = new ArrayList<>();
+        AtomicInteger[] running = new AtomicInteger[keyCount];
+        for (int key = 0; key < keyCount; key++) {
+            executed.add(new ArrayList<>());
+            running[key] = new AtomicInteger();
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            for (int key = 0; key < keyCount; key++) {
+                int k = key;
+                int order = i;
+                futures.add(keyedSerialExecutor.submit(k, () -> {
+                    assertEquals(1, running[k].incrementAndGet());
+                    executed.get(k).add(order);
+                    running[k].decrementAndGet();
+                    return order;
+                }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+
+        for (int key = 0; key < keyCount; key++) {
+            List<Integer> orders = executed.get(key);
+            assertEquals(taskCount, orders.size());
+            for (int i = 0; i < taskCount; i++) {
+                assertEquals(i, orders.get(i));
+            }
+        }
+        assertEquals(0, keyedSerialExecutor.size());
+    }
+
+    @Test
+    @DisplayName("실패하거나 거절된 작업은 예외로 완료하고 같은 키의 다음 작업은 계속 실행")
+    void testFailureDoesNotBlockNextTask() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        KeyedSerialExecutor keyedSerialExecutor = new KeyedSerialExecutor(runnable -> {
+            // 두 번째로 넘겨받은 작업만 거절
+            if (accepted.incrementAndGet() == 2) {
+                throw new RejectedExecutionException();
+            }
+            executorService.execute(runnable);
+        });
+
+        CompletableFuture<Integer> first = keyedSerialExecutor.submit(1L, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("실패");
+        });
+        CompletableFuture<Integer> rejected = keyedSerialExecutor.submit(1L, () -> 2);
+        CompletableFuture<Integer> third = keyedSerialExecutor.submit(1L, () -> 3);
+        release.countDown();
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, first::join).getCause());
+        assertThrows(CompletionException.class, rejected::join);
+        assertEquals(3, third.join());
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OptimisticPointUpdateExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("버전이 바뀌어 저장에 실패하면 다시 조회해 재시도")
+    void testRetryOnConflict() {
+        long id = 1L;
+        UserPointRepository userPointRepository = mock(UserPointRepository.class);
+        when(userPointRepository.selectVersionedById(id)).thenReturn(
+                new VersionedUserPoint(new UserPoint(id, 1000L, 0L), 0L),
+                new VersionedUserPoint(new UserPoint(id, 1500L, 0L), 2L));
+        when(userPointRepository.compareAndSet(eq(id), eq(0L), anyLong(), any())).thenReturn(null);
+        when(userPointRepository.compareAndSet(eq(id), eq(2L), eq(1600L), any())).thenReturn(new UserPoint(id, 1600L, 0L));
+
+        OptimisticPointUpdateExecutor executor = new OptimisticPointUpdateExecutor(userPointRepository, pointMetrics);
+        UserPoint result = executor.update(id, point -> point + 100L, userPoint -> {});
+
+        assertEquals(1600L, result.point());
+        assertEquals(1.0, meterRegistry.get("point.optimistic.conflict").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 실패")
+    void testRetryExhausted() {
+        long id = 1L;
+        UserPointRepository userPointRepository = mock(UserPointRepository.class);
+        when(userPointRepository.selectVersionedById(id)).thenReturn(new VersionedUserPoint(new UserPoint(id, 1000L, 0L), 0L));
+        when(userPointRepository.compareAndSet(eq(id), anyLong(), anyLong(), any())).thenReturn(null);
+
+        OptimisticPointUpdateExecutor executor = new OptimisticPointUpdateExecutor(userPointRepository, pointMetrics);
+
+        assertThrows(RuntimeException.class, () -> executor.update(id, point -> point + 100L, userPoint -> {}));
+        verify(userPointRepository, times(OptimisticPointUpdateExecutor.MAX_ATTEMPTS)).compareAndSet(eq(id), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("같은 유저를 동시에 갱신해도 모든 갱신이 반영되고 커밋 순서대로 onCommit 이 실행")
+    void testConcurrentUpdate() throws InterruptedException {
+        long id = 1L;
+        int threadCount = 5;
+        UserPointRepository userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), pointMetrics);
+        OptimisticPointUpdateExecutor executor = new OptimisticPointUpdateExecutor(userPointRepository, pointMetrics);
+        List<Long> committed = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    executor.update(id, point -> point + 100L, userPoint -> committed.add(userPoint.point()));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        assertEquals(threadCount * 100L, userPointRepository.selectById(id).point());
+        assertEquals(List.of(100L, 200L, 300L, 400L, 500L), committed);
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.concurrency;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedPointUpdateExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserPointRepository userPointRepository;
+    private ShardedPointUpdateExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), pointMetrics);
+        executor = new ShardedPointUpdateExecutor(userPointRepository, pointMetrics, 4);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 유저의 요청을 동시에 보내도 유저별로 모든 갱신이 반영")
+    void testConcurrentUpdate() {
+        int userCount = 8;
+        int requestCount = 50;
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            for (long userId = 1; userId <= userCount; userId++) {
+                futures.add(executor.updateAsync(userId, point -> point + 100L, userPoint -> {}));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertEquals(requestCount * 100L, userPointRepository.selectById(userId).point());
+        }
+        assertEquals(4, meterRegistry.get("point.shard.queue.depth").gauges().size());
+    }
+
+    @Test
+    @DisplayName("정책에 맞지 않는 요청만 실패하고 같은 샤드의 다른 요청은 반영")
+    void testPolicyFailure() {
+        long id = 1L;
+
+        CompletableFuture<UserPoint> charged = executor.updateAsync(id, point -> point + 1000L, userPoint -> {});
+        CompletableFuture<UserPoint> rejected = executor.updateAsync(id, point -> {
+            throw new PointPolicyException(PointPolicyException.Rule.INSUFFICIENT_POINT, "보유 포인트가 부족합니다.");
+        }, userPoint -> {});
+        UserPoint used = executor.update(id, point -> point - 300L, userPoint -> {});
+
+        assertEquals(1000L, charged.join().point());
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(PointPolicyException.class, exception.getCause());
+        assertEquals(700L, used.point());
+        assertEquals(700L, userPointRepository.selectById(id).point());
+    }
+
+    @Test
+    @DisplayName("NO_CHANGE 를 반환한 요청은 저장하지 않고 현재 포인트를 반환")
+    void testNoChange() {
+        long id = 2L;
+        UserPoint charged = executor.update(id, point -> point + 500L, userPoint -> {});
+        boolean[] committed = {false};
+
+        UserPoint result = executor.update(id, point -> PointUpdateExecutor.NO_CHANGE, userPoint -> committed[0] = true);
+
+        assertEquals(charged, result);
+        assertFalse(committed[0]);
+        assertEquals(charged, userPointRepository.selectById(id));
+    }
+
+    @Test
+    @DisplayName("연속된 유저 ID 는 여러 샤드에 고르게 배정")
+    void testShardDistribution() {
+        int[] counts = new int[executor.shardCount()];
+        for (long userId = 1; userId <= 10_000; userId++) {
+            counts[executor.shardIndex(userId)]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 2_000 && count < 3_000);
+        }
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 요청은 실패하거나 처리되고, 완료되지 않은 채 남지 않음")
+    void testUpdateRacingShutdown() throws Exception {
+        ShardedPointUpdateExecutor racingExecutor = new ShardedPointUpdateExecutor(
+                new PrimitiveUserPointRepository(16, new SimpleMeterRegistry()), new PointMetrics(new SimpleMeterRegistry()), 4);
+        racingExecutor.start();
+
+        int threadCount = 8;
+        AtomicBoolean stopped = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < threadCount; thread++) {
+                long userId = thread + 1;
+                results.add(executorService.submit(() -> {
+                    int updated = 0;
+                    while (!stopped.get()) {
+                        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+                        for (int i = 0; i < 100; i++) {
+                            futures.add(racingExecutor.updateAsync(userId, point -> point + 1L, userPoint -> {}));
+                        }
+                        // 완료되지 않은 채 남은 요청이 있으면 시간 초과
+                        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                                .exceptionally(e -> null)
+                                .get(5, TimeUnit.SECONDS);
+                        updated += (int) futures.stream().filter(future -> !future.isCompletedExceptionally()).count();
+                    }
+                    return updated;
+                }));
+            }
+            Thread.sleep(50);
+            racingExecutor.shutdown();
+            stopped.set(true);
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        int updated = 0;
+        for (Future<Integer> result : results) {
+            updated += result.get();
+        }
+        assertTrue(updated > 0);
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AsyncPointController.class)
+class AsyncPointControllerTest {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AsyncPointService asyncPointService;
+
+    @TestConfiguration
+    static class IdempotencyConfig {
+        @Bean
+        IdempotencyCache idempotencyCache() {
+            return new IdempotencyCache(Duration.ofMinutes(10), 100, new PointMetrics(new SimpleMeterRegistry()));
+        }
+    }
+
+    @Test
+    @DisplayName("유저 포인트 조회 결과를 비동기로 응답")
+    void testPoint() throws Exception {
+        when(asyncPointService.getUserPoint(1L)).thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1000L, 10L)));
+
+        perform(get("/async/point/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(1000L));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다시 들어온 충전은 처리하지 않고 처음 응답을 반환")
+    void testChargeIdempotent() throws Exception {
+        when(asyncPointService.chargePoint(1L, 1000L)).thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1000L, 10L)));
+
+        for (int i = 0; i < 2; i++) {
+            perform(charge(1L, 1000L).header(IDEMPOTENCY_KEY, "charge-key"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(1000L));
+        }
+
+        verify(asyncPointService, times(1)).chargePoint(1L, 1000L);
+        mockMvc.perform(charge(1L, 2000L).header(IDEMPOTENCY_KEY, "charge-key"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key 가 다른 요청에 사용되었습니다."));
+    }
+
+    @Test
+    @DisplayName("실패한 사용은 같은 형식으로 응답하고, 같은 Idempotency-Key 로 다시 시도하면 다시 처리")
+    void testUseFailureNotKept() throws Exception {
+        when(asyncPointService.usePoint(1L, 5000L))
+                .thenReturn(CompletableFuture.failedFuture(PointPolicyException.of(PointPolicyException.Rule.INSUFFICIENT_POINT)))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 0L, 10L)));
+
+        perform(patch("/async/point/{id}/use", 1L).contentType(MediaType.APPLICATION_JSON).content("5000").header(IDEMPOTENCY_KEY, "use-key"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value(PointPolicyException.Rule.INSUFFICIENT_POINT.getMessage()));
+        perform(patch("/async/point/{id}/use", 1L).contentType(MediaType.APPLICATION_JSON).content("5000").header(IDEMPOTENCY_KEY, "use-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(0L));
+
+        verify(asyncPointService, times(2)).usePoint(1L, 5000L);
+    }
+
+    private static MockHttpServletRequestBuilder charge(long id, long amount) {
+        return patch("/async/point/{id}/charge", id).contentType(MediaType.APPLICATION_JSON).content(String.valueOf(amount));
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
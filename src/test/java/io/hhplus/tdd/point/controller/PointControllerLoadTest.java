@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실행 모드별 부하 테스트
+ * - 요청을 하나씩 보내 충전 한 건의 평균 응답 시간을 구한 뒤, 서로 다른 유저 1000명이 동시에 충전 요청을 보냄
+ * - 유효 동시 처리 수 = 요청 수 * 한 건 평균 응답 시간 / 동시 요청 전체 처리 시간 (요청이 테이블 지연을 기다리는 동안 몇 건이 겹쳐 처리되었는지)
+ * - 플랫폼 스레드 모드는 Tomcat 스레드 수(기본 200)만큼만 동시에 처리되므로 유효 동시 처리 수가 스레드 수를 넘지 않고,
+ *   가상 스레드 모드는 요청 수만큼 동시에 처리되므로 Tomcat 스레드 수를 넘어야 함
+ * - 동시 요청 1000건의 CPU 사용 시간이 테이블 지연보다 짧아야 하므로 여러 코어에서 실행
+ * - 시간이 오래 걸리므로 LOAD_TEST=true 환경변수가 있을 때만 실행 (가상 스레드 모드는 -PruntimeJavaVersion=21 필요)
+ */
+@EnabledIfEnvironmentVariable(named = "LOAD_TEST", matches = "true")
+class PointControllerLoadTest {
+
+    private static final int CONCURRENT_USERS = 1000;
+
+    // JIT 컴파일 등 첫 요청 비용이 측정에 섞이지 않도록 먼저 보내는 요청 수
+    private static final int WARM_UP_USERS = 200;
+
+    // 한 건 평균 응답 시간을 구하기 위해 하나씩 보내는 요청 수
+    private static final int SEQUENTIAL_USERS = 40;
+
+    // 플랫폼 스레드 모드에서 최소 유효 동시 처리 수 (Tomcat 스레드 수의 1/5)
+    private static final double MIN_PLATFORM_CONCURRENCY_RATIO = 0.2;
+
+    // 유저 ID 구간 (측정마다 처음 요청하는 유저를 사용)
+    private static final int SEQUENTIAL_START_USER_ID = CONCURRENT_USERS + WARM_UP_USERS + 1;
+
+    @Nested
+    @DisplayName("플랫폼 스레드 모드")
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=false")
+    class PlatformThread {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${server.tomcat.threads.max:200}")
+        private int tomcatThreads;
+
+        @Test
+        @DisplayName("동시 충전 요청이 Tomcat 스레드 수 안에서 겹쳐 처리됨")
+        void concurrentCharge() {
+            double concurrency = runLoad("platform", port);
+
+            assertTrue(concurrency >= tomcatThreads * MIN_PLATFORM_CONCURRENCY_RATIO, "concurrency=" + concurrency);
+            assertTrue(concurrency <= tomcatThreads, "concurrency=" + concurrency);
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 스레드 모드")
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+    class VirtualThread {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${server.tomcat.threads.max:200}")
+        private int tomcatThreads;
+
+        @Test
+        @DisplayName("동시 충전 요청이 Tomcat 스레드 수보다 많이 겹쳐 처리됨")
+        void concurrentCharge() {
+            double concurrency = runLoad("virtual", port);
+
+            assertTrue(concurrency > tomcatThreads, "concurrency=" + concurrency);
+        }
+    }
+
+    /**
+     * 부하를 보내고 유효 동시 처리 수 반환
+     */
+    private static double runLoad(String mode, int port) {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        sendCharges(httpClient, port, CONCURRENT_USERS + 1, WARM_UP_USERS);
+
+        long sequentialStart = System.nanoTime();
+        for (int userId = SEQUENTIAL_START_USER_ID; userId < SEQUENTIAL_START_USER_ID + SEQUENTIAL_USERS; userId++) {
+            assertEquals(1, sendCharges(httpClient, port, userId, 1));
+        }
+        double latencyMillis = (System.nanoTime() - sequentialStart) / 1_000_000.0 / SEQUENTIAL_USERS;
+
+        long start = System.nanoTime();
+        long successCount = sendCharges(httpClient, port, 1, CONCURRENT_USERS);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+        assertEquals(CONCURRENT_USERS, successCount);
+
+        double concurrency = CONCURRENT_USERS * latencyMillis / elapsedMillis;
+        System.out.printf("[%s] latency %.1fms, %d concurrent requests in %.0fms, effective concurrency %.1f%n",
+                mode, latencyMillis, CONCURRENT_USERS, elapsedMillis, concurrency);
+        return concurrency;
+    }
+
+    /**
+     * 유저마다 100P 충전 요청을 동시에 보내고 성공한 요청 수 반환
+     */
+    private static long sendCharges(HttpClient httpClient, int port, int startUserId, int userCount) {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(userCount);
+        for (int userId = startUserId; userId < startUserId + userCount; userId++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("100"))
+                    .build();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        return responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+    }
+}
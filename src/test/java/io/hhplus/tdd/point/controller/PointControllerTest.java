@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PointController.class)
+class PointControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+    @MockBean
+    private PointBatchService pointBatchService;
+    @MockBean
+    private PointSnapshotService pointSnapshotService;
+    @MockBean
+    private IdempotencyCache idempotencyCache;
+
+    @Test
+    @DisplayName("이력 내보내기는 이력 하나를 JSON 한 줄로 전송 (NDJSON)")
+    void testExportHistoryNdjson() throws Exception {
+        long id = 1L;
+        PointHistory history1 = new PointHistory(1L, id, 1000L, TransactionType.CHARGE, 10L);
+        PointHistory history2 = new PointHistory(2L, id, 500L, TransactionType.USE, 20L);
+        when(pointService.exportUserPointHistories(id)).thenReturn(consumer -> {
+            consumer.accept(List.of(history1));
+            consumer.accept(List.of(history2));
+        });
+
+        MvcResult result = mockMvc.perform(get("/point/{id}/histories/export", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"id\":1,\"userId\":1,\"amount\":1000,\"type\":\"CHARGE\",\"updateMillis\":10}\n"
+                                + "{\"id\":2,\"userId\":1,\"amount\":500,\"type\":\"USE\",\"updateMillis\":20}\n"));
+    }
+
+    @Test
+    @DisplayName("이력 내보내기 준비에 실패하면 스트림을 시작하지 않고 오류 응답")
+    void testExportHistoryFailsBeforeStreaming() throws Exception {
+        long id = 1L;
+        when(pointService.exportUserPointHistories(id)).thenThrow(new RuntimeException("포인트 이력 저장에 실패했습니다."));
+
+        mockMvc.perform(get("/point/{id}/histories/export", id))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("포인트 이력 저장에 실패했습니다."));
+    }
+}
@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final IdempotencyCache idempotencyCache = new IdempotencyCache(Duration.ofSeconds(10), 3, new PointMetrics(meterRegistry), now::get);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 다시 들어온 요청은 처리하지 않고 처음 결과를 반환")
+    void testReplay() {
+        assertEquals(1, idempotencyCache.execute("key", "charge:1:1000", calls::incrementAndGet));
+        assertEquals(1, idempotencyCache.execute("key", "charge:1:1000", calls::incrementAndGet));
+
+        assertEquals(1, calls.get());
+        assertEquals(1.0, meterRegistry.counter("point.idempotency.replayed").count());
+        assertThrows(RuntimeException.class, () -> idempotencyCache.execute("key", "charge:1:2000", calls::incrementAndGet));
+        assertEquals(2, idempotencyCache.execute(null, "charge:1:1000", calls::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 들어온 요청은 처음 요청의 결과를 기다림")
+    void testWaitInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return calls.incrementAndGet();
+        }));
+        started.await();
+
+        CompletableFuture<Integer> retry = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", calls::incrementAndGet));
+        release.countDown();
+
+        assertEquals(1, first.get());
+        assertEquals(1, retry.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("실패한 요청과 만료된 키는 보관하지 않고, 최대 개수를 넘으면 오래된 키부터 제거")
+    void testEviction() {
+        assertThrows(RuntimeException.class, () -> idempotencyCache.execute("failed", "a", () -> {
+            throw new RuntimeException("실패");
+        }));
+        assertEquals(1, idempotencyCache.execute("failed", "a", calls::incrementAndGet));
+
+        idempotencyCache.execute("k2", "b", calls::incrementAndGet);
+        idempotencyCache.execute("k3", "c", calls::incrementAndGet);
+        idempotencyCache.execute("k4", "d", calls::incrementAndGet);
+        assertEquals(3, idempotencyCache.size());
+        assertEquals(5, idempotencyCache.execute("failed", "a", calls::incrementAndGet));
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertEquals(6, idempotencyCache.execute("k4", "d", calls::incrementAndGet));
+        assertEquals(1, idempotencyCache.size());
+    }
+
+    @Test
+    @DisplayName("실패한 요청이 반복되어도 추가 순서 큐는 보관 중인 키 수에 비례하는 크기로 유지")
+    void testQueueBoundedAfterFailures() {
+        idempotencyCache.execute("k1", "a", calls::incrementAndGet);
+        idempotencyCache.execute("k2", "b", calls::incrementAndGet);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThrows(RuntimeException.class, () -> idempotencyCache.execute(String.valueOf(calls.get()), "c", () -> {
+                throw new RuntimeException("실패");
+            }));
+            calls.incrementAndGet();
+        }
+
+        assertEquals(2, idempotencyCache.size());
+        assertTrue(idempotencyCache.queuedCount() <= idempotencyCache.size() * 2 + 1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 만료되거나 최대 개수를 넘어도 제거하지 않음")
+    void testKeepInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return calls.incrementAndGet();
+        }));
+        started.await();
+
+        idempotencyCache.execute("k2", "b", calls::incrementAndGet);
+        idempotencyCache.execute("k3", "c", calls::incrementAndGet);
+        idempotencyCache.execute("k4", "d", calls::incrementAndGet);
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        CompletableFuture<Integer> retry = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", calls::incrementAndGet));
+        awaitReplay();
+        release.countDown();
+
+        assertEquals(4, first.get());
+        assertEquals(4, retry.get());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("RuntimeException 이 아닌 예외로 끝나도 기다리던 요청에 같은 예외를 전달하고 키를 보관하지 않음")
+    void testCompleteOnError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new StackOverflowError();
+        }));
+        started.await();
+
+        CompletableFuture<Integer> retry = CompletableFuture.supplyAsync(() -> idempotencyCache.execute("key", "use:1:100", calls::incrementAndGet));
+        awaitReplay();
+        release.countDown();
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> retry.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertThrows(ExecutionException.class, first::get);
+        assertEquals(0, idempotencyCache.size());
+    }
+
+    @Test
+    @DisplayName("비동기 처리 중인 키로 다시 들어온 요청은 기다리지 않고 처음 요청의 결과로 완료되고, 동기 요청과 결과를 공유")
+    void testExecuteAsync() throws Exception {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        CompletableFuture<Integer> first = idempotencyCache.executeAsync("key", "charge:1:1000", () -> pending);
+        CompletableFuture<Integer> retry = idempotencyCache.executeAsync("key", "charge:1:1000", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        assertFalse(retry.isDone());
+        pending.complete(7);
+
+        assertEquals(7, first.get(5, TimeUnit.SECONDS));
+        assertEquals(7, retry.get(5, TimeUnit.SECONDS));
+        assertEquals(7, idempotencyCache.execute("key", "charge:1:1000", calls::incrementAndGet));
+        assertEquals(0, calls.get());
+
+        assertThrows(ExecutionException.class, () -> idempotencyCache.executeAsync("failed", "a",
+                () -> CompletableFuture.<Integer>failedFuture(new RuntimeException("실패"))).get());
+        assertEquals(1, idempotencyCache.executeAsync("failed", "a", () -> CompletableFuture.completedFuture(calls.incrementAndGet())).get());
+    }
+
+    // 다시 들어온 요청이 처음 요청의 결과를 기다리기 시작할 때까지 대기
+    private void awaitReplay() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("point.idempotency.replayed").count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
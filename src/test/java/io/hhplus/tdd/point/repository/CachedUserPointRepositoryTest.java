@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository delegate;
+
+    private CachedUserPointRepository cachedUserPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        cachedUserPointRepository = new CachedUserPointRepository(delegate, 2);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 조회")
+    void testReadThrough() {
+        long id = 1L;
+        when(delegate.selectById(id)).thenReturn(new UserPoint(id, 1000L, System.currentTimeMillis()));
+
+        cachedUserPointRepository.selectById(id);
+        UserPoint result = cachedUserPointRepository.selectById(id);
+
+        assertEquals(1000L, result.point());
+        verify(delegate, times(1)).selectById(id);
+        assertEquals(1, cachedUserPointRepository.getHitCount());
+        assertEquals(1, cachedUserPointRepository.getMissCount());
+    }
+
+    @Test
+    @DisplayName("여러 유저 조회 시 캐시에 없는 유저만 원본 저장소에서 한 번에 조회")
+    void testBulkReadThrough() {
+        when(delegate.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, System.currentTimeMillis()));
+        when(delegate.selectByIds(List.of(2L))).thenReturn(new UserPointBulkRead(Map.of(2L, new UserPoint(2L, 2000L, System.currentTimeMillis())), Map.of()));
+        cachedUserPointRepository.selectById(1L);
+
+        Map<Long, UserPoint> result = cachedUserPointRepository.selectByIds(List.of(1L, 2L)).userPoints();
+
+        assertEquals(1000L, result.get(1L).point());
+        assertEquals(2000L, result.get(2L).point());
+        assertEquals(2000L, cachedUserPointRepository.selectById(2L).point());
+        verify(delegate, times(1)).selectByIds(List.of(2L));
+        assertEquals(2, cachedUserPointRepository.getHitCount());
+        assertEquals(2, cachedUserPointRepository.getMissCount());
+    }
+
+    @Test
+    @DisplayName("저장 후 조회 시 원본 저장소 조회 없이 저장된 포인트 조회")
+    void testWriteThrough() {
+        long id = 1L;
+        when(delegate.selectById(id)).thenReturn(new UserPoint(id, 1000L, System.currentTimeMillis()));
+        when(delegate.insertOrUpdate(id, 1500L)).thenReturn(new UserPoint(id, 1500L, System.currentTimeMillis()));
+
+        cachedUserPointRepository.selectById(id);
+        cachedUserPointRepository.insertOrUpdate(id, 1500L);
+        UserPoint result = cachedUserPointRepository.selectById(id);
+
+        assertEquals(1500L, result.point());
+        verify(delegate, times(1)).selectById(id);
+    }
+
+    @Test
+    @DisplayName("조회 도중 저장이 일어나면 조회한 값을 캐시하지 않음")
+    void testNoStaleFillDuringWrite() {
+        long id = 1L;
+        when(delegate.selectById(id)).thenAnswer(invocation -> {
+            // 원본 조회 중에 다른 요청이 저장을 완료한 상황
+            cachedUserPointRepository.insertOrUpdate(id, 2000L);
+            return new UserPoint(id, 1000L, System.currentTimeMillis());
+        });
+        when(delegate.insertOrUpdate(id, 2000L)).thenReturn(new UserPoint(id, 2000L, System.currentTimeMillis()));
+
+        cachedUserPointRepository.selectById(id);
+
+        assertEquals(2000L, cachedUserPointRepository.selectById(id).point());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 유저부터 제거")
+    void testLruEviction() {
+        for (long id = 1; id <= 3; id++) {
+            when(delegate.selectById(id)).thenReturn(new UserPoint(id, 0L, System.currentTimeMillis()));
+        }
+
+        cachedUserPointRepository.selectById(1L);
+        cachedUserPointRepository.selectById(2L);
+        cachedUserPointRepository.selectById(1L);
+        cachedUserPointRepository.selectById(3L);
+        cachedUserPointRepository.selectById(1L);
+        cachedUserPointRepository.selectById(2L);
+
+        assertEquals(2, cachedUserPointRepository.size());
+        verify(delegate, times(1)).selectById(1L);
+        verify(delegate, times(2)).selectById(2L);
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CoalescingUserPointRepository coalescingUserPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        coalescingUserPointRepository = new CoalescingUserPointRepository(delegate, new PointMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("같은 유저를 동시에 조회하면 원본 저장소는 한 번만 호출")
+    void testCoalesceConcurrentReads() throws Exception {
+        long id = 1L;
+        int threadCount = 10;
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.selectById(id)).thenAnswer(invocation -> {
+            release.await();
+            return new UserPoint(id, 1000L, 0L);
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> coalescingUserPointRepository.selectById(id), executorService));
+        }
+        // 모든 스레드가 진행 중인 조회에 합류할 때까지 대기
+        while (meterRegistry.get("point.read.coalesced").counter().count() < threadCount - 1) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        release.countDown();
+
+        for (CompletableFuture<UserPoint> result : results) {
+            assertEquals(1000L, result.get().point());
+        }
+        executorService.shutdown();
+        verify(delegate, times(1)).selectById(id);
+    }
+
+    @Test
+    @DisplayName("저장이 끝난 뒤 시작한 조회는 그 전에 시작된 조회 결과를 사용하지 않음")
+    void testNoStaleReadAfterWrite() throws Exception {
+        long id = 1L;
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRead = new CountDownLatch(1);
+        when(delegate.selectById(id))
+                .thenAnswer(invocation -> {
+                    firstReadStarted.countDown();
+                    releaseFirstRead.await();
+                    return new UserPoint(id, 1000L, 0L);
+                })
+                .thenReturn(new UserPoint(id, 2000L, 0L));
+        when(delegate.insertOrUpdate(id, 2000L)).thenReturn(new UserPoint(id, 2000L, 0L));
+
+        CompletableFuture<UserPoint> staleRead = CompletableFuture.supplyAsync(() -> coalescingUserPointRepository.selectById(id));
+        firstReadStarted.await();
+        coalescingUserPointRepository.insertOrUpdate(id, 2000L);
+
+        UserPoint result = coalescingUserPointRepository.selectById(id);
+        releaseFirstRead.countDown();
+
+        assertEquals(2000L, result.point());
+        assertEquals(1000L, staleRead.get().point());
+        verify(delegate, times(2)).selectById(id);
+        assertEquals(0.0, meterRegistry.get("point.read.coalesced").counter().count());
+    }
+}
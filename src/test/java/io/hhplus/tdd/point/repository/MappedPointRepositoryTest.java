@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedPointRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("재시작하면 유저별 마지막 포인트를 복구")
+    void testRecoverUserPoints() throws InterruptedException {
+        MappedUserPointRepository repository = new MappedUserPointRepository(directory, 4, pointMetrics);
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(2L, 500L);
+        repository.insertOrUpdate(1L, 700L);
+        repository.close();
+
+        MappedUserPointRepository recovered = new MappedUserPointRepository(directory, 4, pointMetrics);
+        assertEquals(700L, recovered.selectById(1L).point());
+        assertEquals(500L, recovered.selectById(2L).point());
+        assertEquals(0L, recovered.selectById(3L).point());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("재시작하면 이력과 이력 ID 를 복구하고 이어서 ID 를 발급")
+    void testRecoverHistories() throws InterruptedException {
+        MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory, 4, pointMetrics);
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        repository.insert(2L, 500L, TransactionType.CHARGE, 20L);
+        repository.insert(1L, 300L, TransactionType.USE, 30L);
+        repository.close();
+
+        MappedPointHistoryRepository recovered = new MappedPointHistoryRepository(directory, 4, pointMetrics);
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L),
+                new PointHistory(3L, 1L, 300L, TransactionType.USE, 30L)), recovered.selectAllByUserId(1L));
+        assertEquals(4L, recovered.insert(2L, 100L, TransactionType.USE, 40L).id());
+        assertEquals(List.of(1L, 2L), recovered.selectUserIds());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("이력 저장 요청은 큐를 거치지 않고 반환 전에 로그에 저장")
+    void testWriteHistoryBeforeReturn() throws InterruptedException {
+        MappedPointHistoryRepository repository = new MappedPointHistoryRepository(directory, 4, pointMetrics);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(repository);
+        pointHistoryWriter.start();
+
+        pointHistoryWriter.write(1L, 1000L, TransactionType.CHARGE, 10L);
+
+        assertEquals(0, pointHistoryWriter.pendingCount());
+        assertEquals(List.of(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L)), repository.selectAllByUserId(1L));
+        pointHistoryWriter.shutdown();
+        repository.close();
+    }
+}
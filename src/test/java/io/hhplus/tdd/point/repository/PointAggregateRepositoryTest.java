@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.dto.PointDailyAggregate;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PointAggregateRepositoryTest {
+
+    private final PointAggregateRepository pointAggregateRepository = new PointAggregateRepository(mock(PointHistoryRepository.class), "UTC");
+
+    @Test
+    @DisplayName("일별 집계는 날짜 순으로 유지하고 조회 기간에 해당하는 날만 반환")
+    void testDailyAggregate() {
+        LocalDate day = LocalDate.of(2024, 1, 10);
+        pointAggregateRepository.record(1L, 1000L, TransactionType.CHARGE, millis(day));
+        pointAggregateRepository.record(1L, 300L, TransactionType.USE, millis(day.plusDays(2)));
+        // 늦게 도착한 이전 날짜
+        pointAggregateRepository.record(1L, 200L, TransactionType.USE, millis(day.plusDays(1)));
+        pointAggregateRepository.record(1L, 100L, TransactionType.CHARGE, millis(day));
+
+        assertEquals(List.of(
+                new PointDailyAggregate(day, 1100L, 0L, 2L, 0L),
+                new PointDailyAggregate(day.plusDays(1), 0L, 200L, 0L, 1L)
+        ), pointAggregateRepository.findDailyByUserId(1L, day.minusDays(3), day.plusDays(1)));
+        assertEquals(millis(day.plusDays(2)), pointAggregateRepository.findByUserId(1L).lastActivityMillis());
+    }
+
+    @Test
+    @DisplayName("보관 일 수를 넘으면 가장 오래된 날의 일별 집계부터 삭제하고 전체 집계는 유지")
+    void testDailyAggregateRetention() {
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        int days = PointConstant.MAX_DAILY_AGGREGATE_DAYS + 10;
+        for (int i = 0; i < days; i++) {
+            pointAggregateRepository.record(1L, 100L, TransactionType.CHARGE, millis(first.plusDays(i)));
+        }
+        pointAggregateRepository.record(1L, 100L, TransactionType.CHARGE, millis(first));
+
+        List<PointDailyAggregate> daily = pointAggregateRepository.findDailyByUserId(1L, first, first.plusDays(days));
+        assertEquals(PointConstant.MAX_DAILY_AGGREGATE_DAYS, daily.size());
+        assertEquals(first.plusDays(10), daily.get(0).date());
+        assertEquals((days + 1) * 100L, pointAggregateRepository.findByUserId(1L).totalCharged());
+    }
+
+    private long millis(LocalDate date) {
+        return date.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli() + 1000L;
+    }
+}
@@ -0,0 +1,297 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryIndexTest {
+
+    @Test
+    @DisplayName("유저별로 추가한 순서대로 이력이 조회됨")
+    void testFindAllByUserId() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryIndex.append(new PointHistory(i, i % 2, i * 100L, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i));
+        }
+
+        List<PointHistory> result = pointHistoryIndex.findAllByUserId(1L);
+
+        assertEquals(5, result.size());
+        assertEquals(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L), result.get(0));
+        assertEquals(new PointHistory(3L, 1L, 300L, TransactionType.USE, 3L), result.get(1));
+        assertEquals(new PointHistory(9L, 1L, 900L, TransactionType.USE, 9L), result.get(4));
+    }
+
+    @Test
+    @DisplayName("이력이 없는 유저는 빈 목록 조회")
+    void testFindAllByUserIdEmpty() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+        assertTrue(pointHistoryIndex.findAllByUserId(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 이력을 페이지 크기만큼 조회")
+    void testFindPageByUserId() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryIndex.append(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, i));
+        }
+
+        PointHistoryPage firstPage = pointHistoryIndex.findPageByUserId(1L, PointHistoryCondition.firstPage(2));
+        PointHistoryPage lastPage = pointHistoryIndex.findPageByUserId(1L, new PointHistoryCondition(4L, null, null, null, 2));
+
+        assertEquals(List.of(1L, 2L), firstPage.histories().stream().map(PointHistory::id).toList());
+        assertEquals(2L, firstPage.nextCursor());
+        assertEquals(List.of(5L), lastPage.histories().stream().map(PointHistory::id).toList());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("기간과 트랜잭션 종류로 이력 페이지 조회")
+    void testFindPageByUserIdWithFilter() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryIndex.append(new PointHistory(i, 1L, 100L, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 1000L));
+        }
+
+        PointHistoryCondition condition = new PointHistoryCondition(null, 3000L, 8000L, TransactionType.USE, 10);
+        PointHistoryPage page = pointHistoryIndex.findPageByUserId(1L, condition);
+
+        assertEquals(List.of(4L, 6L, 8L), page.histories().stream().map(PointHistory::id).toList());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("여러 블록에 걸친 이력도 추가한 값 그대로 조회")
+    void testRoundTripAcrossBlocks() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        List<PointHistory> expected = new ArrayList<>();
+        Random random = new Random(42);
+        long id = 0;
+        long updateMillis = System.currentTimeMillis();
+        for (int i = 0; i < CompressedUserHistories.BLOCK_SIZE * 3 + 5; i++) {
+            id += 1 + random.nextInt(100_000);
+            // 시간은 조금씩 앞뒤로 흔들리고, 금액은 큰 값도 포함
+            updateMillis += random.nextInt(2_000) - 500;
+            long amount = i % 7 == 0 ? Long.MAX_VALUE - i : 100L * (1 + random.nextInt(1000));
+            TransactionType type = random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE;
+            PointHistory pointHistory = new PointHistory(id, 1L, amount, type, updateMillis);
+            expected.add(pointHistory);
+            pointHistoryIndex.append(pointHistory);
+        }
+
+        assertEquals(expected, pointHistoryIndex.findAllByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("블록 경계를 넘는 cursor 로 이어서 페이지 조회")
+    void testFindPageAcrossBlocks() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 1; i <= 200; i++) {
+            pointHistoryIndex.append(new PointHistory(i * 2L, 1L, 100L, TransactionType.CHARGE, i));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        Long cursor = 101L;
+        do {
+            PointHistoryPage page = pointHistoryIndex.findPageByUserId(1L, new PointHistoryCondition(cursor, null, null, null, 30));
+            page.histories().forEach(pointHistory -> ids.add(pointHistory.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(LongStream.rangeClosed(51, 200).map(i -> i * 2).boxed().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("페이지가 찬 뒤 조건에 맞는 이력이 더 없으면 다음 cursor 없음")
+    void testNoNextCursorWithoutMoreMatches() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryIndex.append(new PointHistory(i, 1L, 100L, i == 2 || i == 4 ? TransactionType.USE : TransactionType.CHARGE, i));
+        }
+
+        PointHistoryPage page = pointHistoryIndex.findPageByUserId(1L, new PointHistoryCondition(null, null, null, TransactionType.USE, 2));
+
+        assertEquals(List.of(2L, 4L), page.histories().stream().map(PointHistory::id).toList());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("기간과 종류로 블록을 건너뛰어도 조건에 맞는 이력을 모두 순서대로 조회")
+    void testFindPageSkippingBlocks() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        int count = CompressedUserHistories.BLOCK_SIZE * 10 + 5;
+        for (int i = 1; i <= count; i++) {
+            // 5 번째 블록까지는 충전만, 이후는 충전/사용이 번갈아 저장
+            TransactionType type = i > CompressedUserHistories.BLOCK_SIZE * 5 && i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryIndex.append(new PointHistory(i, 1L, 100L, type, i * 1000L));
+        }
+        long from = 300 * 1000L;
+        long to = 500 * 1000L;
+
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        do {
+            PointHistoryPage page = pointHistoryIndex.findPageByUserId(1L, new PointHistoryCondition(cursor, from, to, TransactionType.USE, 7));
+            page.histories().forEach(pointHistory -> ids.add(pointHistory.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(LongStream.rangeClosed(CompressedUserHistories.BLOCK_SIZE * 5 + 1, 500).filter(i -> i % 2 == 0).boxed().toList(), ids);
+        // 기간 끝 이후의 블록만 남으면 다음 cursor 없음
+        PointHistoryPage lastPage = pointHistoryIndex.findPageByUserId(1L, new PointHistoryCondition(498L, from, to, null, 2));
+        assertEquals(List.of(499L, 500L), lastPage.histories().stream().map(PointHistory::id).toList());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("값의 범위가 넓거나 순서가 섞인 이력도 봉인된 블록에서 그대로 복원됨")
+    void testRoundTripExtremeValues() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        Random random = new Random(7);
+        long[] amounts = {Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, 100L};
+        List<PointHistory> expected = new ArrayList<>();
+        for (int i = 1; i <= CompressedUserHistories.BLOCK_SIZE * 4 + 3; i++) {
+            long amount = i <= CompressedUserHistories.BLOCK_SIZE ? amounts[i % amounts.length] : random.nextLong();
+            long updateMillis = i <= CompressedUserHistories.BLOCK_SIZE * 2 ? random.nextLong() : 1_700_000_000_000L - i * 1000L;
+            PointHistory pointHistory = new PointHistory((long) i * i, 1L, amount, i % 5 == 0 ? TransactionType.USE : TransactionType.CHARGE, updateMillis);
+            pointHistoryIndex.append(pointHistory);
+            expected.add(pointHistory);
+        }
+
+        assertEquals(expected, pointHistoryIndex.findAllByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("이력이 추가된 유저만 꺼내고, 기준 ID 이후 이력이 있는 유저는 다음에도 꺼냄")
+    void testDrainUpdatedUserIds() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        pointHistoryIndex.append(new PointHistory(1L, 3L, 100L, TransactionType.CHARGE, 10L));
+        pointHistoryIndex.append(new PointHistory(2L, 1L, 100L, TransactionType.CHARGE, 20L));
+        pointHistoryIndex.append(new PointHistory(3L, 2L, 100L, TransactionType.CHARGE, 30L));
+
+        assertEquals(List.of(1L, 2L, 3L), pointHistoryIndex.drainUpdatedUserIds(2L));
+        assertEquals(List.of(2L), pointHistoryIndex.drainUpdatedUserIds(3L));
+        assertEquals(List.of(), pointHistoryIndex.drainUpdatedUserIds(3L));
+
+        pointHistoryIndex.append(new PointHistory(4L, 1L, 100L, TransactionType.USE, 40L));
+        assertEquals(List.of(1L), pointHistoryIndex.drainUpdatedUserIds(4L));
+    }
+
+    /**
+     * 1천만 건 저장 시 힙 사용량 비교 (PointHistoryTable 의 ArrayList vs 압축 인덱스)
+     * - PointHistoryTable 은 저장마다 지연이 있으므로 내부 ArrayList 에 직접 채움
+     * - memory, mmap 모드 모두 힙에는 압축 인덱스만 둠
+     * - 메모리를 많이 사용하므로 BENCHMARK=true 환경변수가 있을 때만 실행
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    @DisplayName("1천만 건 저장 시 압축 인덱스의 힙 사용량이 PointHistoryTable 의 1/5 이하")
+    void benchmarkHeapFootprint() throws Exception {
+        int historyCount = 10_000_000;
+        int userCount = 100_000;
+
+        long baseline = usedHeap();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        Field field = PointHistoryTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        List<PointHistory> table = (List<PointHistory>) field.get(pointHistoryTable);
+        fillHistories(historyCount, userCount, table::add);
+        long tableBytes = usedHeap() - baseline;
+        assertEquals(historyCount, table.size());
+        table.clear();
+        pointHistoryTable = null;
+
+        baseline = usedHeap();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        fillHistories(historyCount, userCount, pointHistoryIndex::append);
+        long indexBytes = usedHeap() - baseline;
+        assertEquals(historyCount / userCount, pointHistoryIndex.findAllByUserId(1L).size());
+
+        System.out.printf("heap for %,d histories: PointHistoryTable=%,dMB (%d B/row), compressed index=%,dMB (%d B/row)%n",
+                historyCount, tableBytes >> 20, tableBytes / historyCount, indexBytes >> 20, indexBytes / historyCount);
+        assertTrue(indexBytes * 5 <= tableBytes);
+    }
+
+    // 충전/사용이 번갈아 일어나고 금액은 100P 단위, 시간은 수 ms 간격인 이력
+    private static void fillHistories(int historyCount, int userCount, Consumer<PointHistory> consumer) {
+        Random random = new Random(42);
+        long updateMillis = 1_700_000_000_000L;
+        for (long id = 1; id <= historyCount; id++) {
+            updateMillis += random.nextInt(3);
+            TransactionType type = random.nextInt(3) == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            consumer.accept(new PointHistory(id, id % userCount, 100L * (1 + random.nextInt(100)), type, updateMillis));
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 전체 이력이 1백만 건일 때와 1천만 건일 때 같은 유저의 조회 시간이 비슷한지 확인
+     * - 메모리를 많이 사용하므로 BENCHMARK=true 환경변수가 있을 때만 실행
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    @DisplayName("전체 이력 수가 늘어나도 유저 이력 조회 시간은 일정")
+    void benchmarkLookupLatency() {
+        int userCount = 100_000;
+        long probeUserId = 42L;
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+        long id = 1;
+        for (; id <= 1_000_000; id++) {
+            pointHistoryIndex.append(new PointHistory(id, id % userCount, 100L, TransactionType.CHARGE, id));
+        }
+        // 두 시점 모두 같은 크기의 목록을 조회하도록 비교 대상 유저의 이력 수는 고정
+        int probeSize = pointHistoryIndex.findAllByUserId(probeUserId).size();
+        long smallTableNanos = medianLookupNanos(pointHistoryIndex, probeUserId);
+
+        for (; id <= 10_000_000; id++) {
+            long userId = id % userCount;
+            pointHistoryIndex.append(new PointHistory(id, userId == probeUserId ? userCount + 1 : userId, 100L, TransactionType.CHARGE, id));
+        }
+        assertEquals(probeSize, pointHistoryIndex.findAllByUserId(probeUserId).size());
+        long largeTableNanos = medianLookupNanos(pointHistoryIndex, probeUserId);
+
+        System.out.printf("lookup median: 1M rows=%dns, 10M rows=%dns%n", smallTableNanos, largeTableNanos);
+        assertTrue(largeTableNanos < smallTableNanos * 3);
+    }
+
+    private long medianLookupNanos(PointHistoryIndex pointHistoryIndex, long userId) {
+        long[] samples = new long[10_001];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            pointHistoryIndex.findAllByUserId(userId);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+}
@@ -0,0 +1,233 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PointHistoryWriterTest {
+
+    private PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryRepository = new IndexedPointHistoryRepository(new PointMetrics(new SimpleMeterRegistry()));
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장 대기 후 조회하면 요청한 이력이 모두 요청 순서대로 조회됨")
+    void testReadYourWrites() {
+        long userId = 1L;
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryWriter.write(userId, i * 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        pointHistoryWriter.awaitFlushed(userId);
+        List<PointHistory> result = pointHistoryRepository.selectAllByUserId(userId);
+
+        assertEquals(5, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals((i + 1) * 100L, result.get(i).amount());
+            if (i > 0) {
+                assertTrue(result.get(i - 1).id() < result.get(i).id());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 이력을 모두 저장")
+    void testFlushOnShutdown() throws InterruptedException {
+        long userId = 2L;
+        pointHistoryWriter.write(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointHistoryWriter.write(userId, 100L, TransactionType.USE, System.currentTimeMillis());
+
+        pointHistoryWriter.shutdown();
+
+        assertEquals(2, pointHistoryRepository.selectAllByUserId(userId).size());
+        assertEquals(0, pointHistoryWriter.pendingCount());
+    }
+
+    @Test
+    @DisplayName("종료 후 저장 요청 시 예외 발생")
+    void testWriteAfterShutdown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+
+        assertThrows(RuntimeException.class, () -> {
+            pointHistoryWriter.write(3L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        });
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 저장 요청은 예외가 발생하거나 저장되고, 유실되지 않음")
+    void testWriteRacingShutdown() throws Exception {
+        PointHistoryRepository countingRepository = mock(PointHistoryRepository.class);
+        AtomicInteger inserted = new AtomicInteger();
+        when(countingRepository.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            inserted.incrementAndGet();
+            return null;
+        });
+        PointHistoryWriter racingWriter = new PointHistoryWriter(countingRepository);
+        racingWriter.start();
+
+        int threadCount = 8;
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int thread = 0; thread < threadCount; thread++) {
+                long userId = thread;
+                executorService.submit(() -> {
+                    try {
+                        while (true) {
+                            racingWriter.write(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                            accepted.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        // 종료 후 저장 요청
+                    }
+                });
+            }
+            Thread.sleep(50);
+            racingWriter.shutdown();
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(accepted.get() > 0);
+        assertEquals(accepted.get(), inserted.get());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다시 시도해 저장")
+    void testRetryFailedInsert() {
+        PointHistoryRepository flakyRepository = mock(PointHistoryRepository.class);
+        when(flakyRepository.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(new RuntimeException("저장 실패"))
+                .thenThrow(new RuntimeException("저장 실패"))
+                .thenReturn(null);
+        PointHistoryWriter flakyWriter = new PointHistoryWriter(flakyRepository);
+        flakyWriter.start();
+        try {
+            flakyWriter.write(4L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+
+            assertDoesNotThrow(() -> flakyWriter.awaitFlushed(4L));
+            verify(flakyRepository, times(3)).insert(anyLong(), anyLong(), any(), anyLong());
+            assertEquals(0, flakyWriter.failedCount());
+        } finally {
+            assertDoesNotThrow(flakyWriter::shutdown);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 저장하지 못하면 저장 대기 시 예외가 발생하고 실패 수로 기록")
+    void testFailedInsertIsNotReportedAsFlushed() {
+        PointHistoryRepository failingRepository = mock(PointHistoryRepository.class);
+        when(failingRepository.insert(anyLong(), anyLong(), any(), anyLong())).thenThrow(new RuntimeException("저장 실패"));
+        PointHistoryWriter failingWriter = new PointHistoryWriter(failingRepository);
+        failingWriter.start();
+        try {
+            failingWriter.write(5L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+
+            assertThrows(RuntimeException.class, () -> failingWriter.awaitFlushed(5L));
+            assertEquals(1, failingWriter.failedCount());
+        } finally {
+            assertDoesNotThrow(failingWriter::shutdown);
+        }
+    }
+
+    @Test
+    @DisplayName("저장 실패는 한 번 보고하면 이후 저장 대기에서 다시 예외가 발생하지 않음")
+    void testFailureReportedOnce() {
+        PointHistoryRepository failingRepository = mock(PointHistoryRepository.class);
+        RuntimeException failure = new RuntimeException("저장 실패");
+        when(failingRepository.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(failure, failure, failure, failure, failure)
+                .thenReturn(null);
+        PointHistoryWriter failingWriter = new PointHistoryWriter(failingRepository);
+        failingWriter.start();
+        try {
+            failingWriter.write(6L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+            assertThrows(RuntimeException.class, () -> failingWriter.awaitFlushed(6L));
+
+            assertDoesNotThrow(() -> failingWriter.awaitFlushed(6L));
+            failingWriter.write(6L, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+            assertDoesNotThrow(() -> failingWriter.awaitFlushed(6L));
+            assertEquals(1, failingWriter.failedCount());
+        } finally {
+            assertDoesNotThrow(failingWriter::shutdown);
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 넣는 도중 중단된 이력은 기다리지 않음")
+    void testInterruptedWriteIsNotAwaited() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PointHistoryRepository blockingRepository = mock(PointHistoryRepository.class);
+        when(blockingRepository.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+        PointHistoryWriter blockingWriter = new PointHistoryWriter(blockingRepository);
+        blockingWriter.start();
+        try {
+            // writer 스레드가 첫 이력 저장에서 대기하는 동안 큐를 가득 채움
+            blockingWriter.write(7L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+            while (blockingWriter.pendingCount() > 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 0; i < 10_000; i++) {
+                blockingWriter.write(8L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+            }
+            AtomicReference<RuntimeException> interrupted = new AtomicReference<>();
+            Thread writer = new Thread(() -> {
+                try {
+                    blockingWriter.write(7L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                } catch (RuntimeException e) {
+                    interrupted.set(e);
+                }
+            });
+            writer.start();
+            while (writer.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            writer.interrupt();
+            writer.join();
+            release.countDown();
+
+            assertNotNull(interrupted.get());
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> blockingWriter.awaitFlushed(7L));
+        } finally {
+            release.countDown();
+            assertDoesNotThrow(blockingWriter::shutdown);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveUserPointRepositoryTest {
+
+    @Test
+    @DisplayName("저장한 포인트를 조회하고, 없는 유저는 0 포인트로 조회")
+    void testInsertAndSelect() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+
+        repository.insertOrUpdate(1L, 1000L);
+        repository.insertOrUpdate(0L, 300L);
+        repository.insertOrUpdate(-5L, 500L);
+        repository.insertOrUpdate(1L, 700L);
+
+        assertEquals(700L, repository.selectById(1L).point());
+        assertEquals(300L, repository.selectById(0L).point());
+        assertEquals(500L, repository.selectById(-5L).point());
+        assertEquals(0L, repository.selectById(2L).point());
+        assertEquals(3, repository.size());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 배열을 늘리고 기존 유저를 그대로 유지")
+    void testResize() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+
+        for (long id = 1; id <= 10_000; id++) {
+            repository.insertOrUpdate(id, id * 10);
+        }
+
+        assertEquals(10_000, repository.size());
+        assertTrue(repository.capacity() >= 10_000 * 4 / 3);
+        for (long id = 1; id <= 10_000; id++) {
+            assertEquals(id * 10, repository.selectById(id).point());
+        }
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 저장하지 않음")
+    void testCompareAndSet() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        repository.insertOrUpdate(1L, 1000L);
+
+        VersionedUserPoint current = repository.selectVersionedById(1L);
+        assertNotNull(repository.compareAndSet(1L, current.version(), 1100L, userPoint -> {}));
+        assertNull(repository.compareAndSet(1L, current.version(), 1200L, userPoint -> {}));
+        assertEquals(1100L, repository.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("onCommit 이 대기하는 동안 다른 유저는 저장되고, 같은 유저의 버전 조회는 onCommit 이 끝난 뒤 진행")
+    void testOnCommitOutsideLock() throws Exception {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<UserPoint> blocked = executorService.submit(() -> repository.compareAndSet(1L, 0L, 1000L, userPoint -> {
+                committing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(committing.await(5, TimeUnit.SECONDS));
+
+            assertEquals(500L, repository.insertOrUpdate(2L, 500L).point());
+            assertNull(repository.compareAndSet(1L, 0L, 2000L, userPoint -> {}));
+            Future<VersionedUserPoint> versioned = executorService.submit(() -> repository.selectVersionedById(1L));
+            assertThrows(TimeoutException.class, () -> versioned.get(100, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            assertEquals(1000L, blocked.get(5, TimeUnit.SECONDS).point());
+            assertEquals(1000L, versioned.get(5, TimeUnit.SECONDS).userPoint().point());
+            assertNotNull(repository.compareAndSet(1L, versioned.get().version(), 2000L, userPoint -> {}));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 1천만 유저 저장 시 힙 사용량 비교 (UserPointTable 의 HashMap vs 기본형 배열)
+     * - UserPointTable 은 저장마다 지연이 있으므로 내부 HashMap 에 직접 채움
+     * - 메모리를 많이 사용하므로 BENCHMARK=true 환경변수가 있을 때만 실행
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    @DisplayName("1천만 유저 저장 시 힙 사용량이 UserPointTable 보다 적음")
+    void benchmarkHeapFootprint() throws Exception {
+        int userCount = 10_000_000;
+        long now = System.currentTimeMillis();
+
+        long baseline = usedHeap();
+        UserPointTable userPointTable = new UserPointTable();
+        Field field = UserPointTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<Long, UserPoint> table = (Map<Long, UserPoint>) field.get(userPointTable);
+        for (long id = 1; id <= userCount; id++) {
+            table.put(id, new UserPoint(id, id, now));
+        }
+        long tableBytes = usedHeap() - baseline;
+        assertEquals(userCount, table.size());
+        table.clear();
+        userPointTable = null;
+
+        baseline = usedHeap();
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(userCount * 4 / 3 + 1);
+        for (long id = 1; id <= userCount; id++) {
+            repository.insertOrUpdate(id, id);
+        }
+        long primitiveBytes = usedHeap() - baseline;
+        assertEquals(userCount, repository.size());
+
+        System.out.printf("heap for %,d users: UserPointTable=%,dMB (%d B/user), primitive=%,dMB (%d B/user)%n",
+                userCount, tableBytes >> 20, tableBytes / userCount, primitiveBytes >> 20, primitiveBytes / userCount);
+        assertTrue(primitiveBytes < tableBytes / 2);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPointRepositoryImplTest {
+
+    private static final int USER_COUNT = 20;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 유저 조회는 테이블 조회를 동시에 실행해 한 번 조회하는 시간 정도에 끝남")
+    void testSelectByIdsInParallel() {
+        UserPointTable userPointTable = new UserPointTable();
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(userPointTable, new PointMetrics(new SimpleMeterRegistry()), executor);
+        List<Long> ids = LongStream.rangeClosed(1, USER_COUNT).boxed().toList();
+        userPointTable.insertOrUpdate(1L, 1000L);
+
+        long start = System.nanoTime();
+        Map<Long, UserPoint> result = userPointRepository.selectByIds(ids).userPoints();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(ids, List.copyOf(result.keySet()));
+        assertEquals(1000L, result.get(1L).point());
+        // 차례로 조회하면 평균 100ms * 20 = 2초
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("여러 유저를 동시에 저장해도 저장한 포인트를 모두 조회")
+    void testConcurrentInsertOrUpdate() throws Exception {
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), new PointMetrics(new SimpleMeterRegistry()));
+        List<Future<UserPoint>> futures = new ArrayList<>();
+        for (long id = 1; id <= USER_COUNT; id++) {
+            long userId = id;
+            futures.add(executor.submit(() -> userPointRepository.insertOrUpdate(userId, userId * 100)));
+        }
+        for (Future<UserPoint> future : futures) {
+            future.get();
+        }
+
+        for (long id = 1; id <= USER_COUNT; id++) {
+            assertEquals(id * 100, userPointRepository.selectById(id).point());
+        }
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 유저를 많이 조회해도 committed 는 저장한 유저 수만큼만 보관")
+    void testReadDoesNotGrowCommitted() {
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UnthrottledUserPointTable(), new PointMetrics(new SimpleMeterRegistry()));
+        userPointRepository.insertOrUpdate(1L, 1000L);
+
+        for (long id = 2; id <= 100_000; id++) {
+            assertEquals(0L, userPointRepository.selectById(id).point());
+        }
+        userPointRepository.selectByIds(LongStream.rangeClosed(100_001, 101_000).boxed().toList());
+
+        assertEquals(1, userPointRepository.committedCount());
+        assertEquals(1000L, userPointRepository.selectById(1L).point());
+    }
+
+    @Test
+    @DisplayName("실행기가 거절한 유저는 거절 예외를 실패 원인으로 반환하고 나머지 유저는 조회")
+    void testSelectByIdsPartialFailure() {
+        int[] submitted = {0};
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), new PointMetrics(new SimpleMeterRegistry()), task -> {
+            if (++submitted[0] == 2) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        });
+
+        UserPointBulkRead result = userPointRepository.selectByIds(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 3L), List.copyOf(result.userPoints().keySet()));
+        assertEquals(List.of(2L), List.copyOf(result.failures().keySet()));
+        assertInstanceOf(RejectedExecutionException.class, result.failures().get(2L));
+    }
+
+    /**
+     * 지연 없는 유저 포인트 테이블 (UserPointTable 의 공개된 API 만 대체)
+     */
+    private static class UnthrottledUserPointTable extends UserPointTable {
+
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPointServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("조회/충전/사용은 PointService 의 결과로 완료")
+    void testDelegate() throws Exception {
+        AsyncPointService asyncPointService = new AsyncPointService(pointService, executorService);
+        UserPoint userPoint = new UserPoint(1L, 1000L, 10L);
+        List<PointHistory> histories = List.of(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L));
+        when(pointService.getUserPoint(1L)).thenReturn(userPoint);
+        when(pointService.getUserPointHistoryList(1L)).thenReturn(histories);
+        when(pointService.chargePoint(1L, 1000L)).thenReturn(new UserPoint(1L, 2000L, 20L));
+        when(pointService.usePoint(1L, 500L)).thenReturn(new UserPoint(1L, 1500L, 30L));
+
+        assertEquals(userPoint, asyncPointService.getUserPoint(1L).get(5, TimeUnit.SECONDS));
+        assertEquals(histories, asyncPointService.getUserPointHistoryList(1L).get(5, TimeUnit.SECONDS));
+        assertEquals(2000L, asyncPointService.chargePoint(1L, 1000L).get(5, TimeUnit.SECONDS).point());
+        assertEquals(1500L, asyncPointService.usePoint(1L, 500L).get(5, TimeUnit.SECONDS).point());
+    }
+
+    @Test
+    @DisplayName("같은 유저의 충전/사용은 겹치지 않고 도착 순서대로 실행하고, 정책 위반은 예외로 완료")
+    void testSerialPerUser() throws Exception {
+        AsyncPointService asyncPointService = new AsyncPointService(pointService, executorService);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        when(pointService.chargePoint(1L, 1000L)).thenAnswer(invocation -> {
+            assertEquals(1, running.incrementAndGet());
+            release.await();
+            running.decrementAndGet();
+            return new UserPoint(1L, 1000L, 10L);
+        });
+        when(pointService.usePoint(1L, 5000L)).thenAnswer(invocation -> {
+            assertEquals(1, running.incrementAndGet());
+            running.decrementAndGet();
+            throw PointPolicyException.of(PointPolicyException.Rule.INSUFFICIENT_POINT);
+        });
+
+        CompletableFuture<UserPoint> charge = asyncPointService.chargePoint(1L, 1000L);
+        CompletableFuture<UserPoint> use = asyncPointService.usePoint(1L, 5000L);
+        assertFalse(use.isDone());
+        release.countDown();
+
+        assertEquals(1000L, charge.get(5, TimeUnit.SECONDS).point());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> use.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PointPolicyException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("실행할 스레드가 없으면 요청 스레드에서 처리하지 않고 예외로 완료")
+    void testRejected() {
+        AsyncPointService asyncPointService = new AsyncPointService(pointService, runnable -> {
+            throw new RejectedExecutionException();
+        });
+
+        ExecutionException read = assertThrows(ExecutionException.class, () -> asyncPointService.getUserPoint(1L).get());
+        ExecutionException charge = assertThrows(ExecutionException.class, () -> asyncPointService.chargePoint(1L, 1000L).get());
+
+        assertEquals("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", read.getCause().getMessage());
+        assertEquals("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", charge.getCause().getMessage());
+    }
+}
@@ -0,0 +1,377 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 유저별 선형성(linearizability) 검사
+ * - 유저의 이력을 ID 순서로 반영한 포인트 목록(states)을 실제 반영 순서로 보고, 기록한 요청이 이 순서로 설명되는지 검사
+ * - 이력 : 반영 후 포인트가 0 이상 MAX_POINT 이하, 사용 후 MIN_POINT 이상이고, 모두 반영한 포인트가 최종 포인트와 같아야 함
+ * - 성공한 충전/사용 : 종류, 금액, 반환된 포인트가 같은 이력과 일대일로 대응하고,
+ *   먼저 끝난 요청의 이력이 나중에 시작한 요청의 이력보다 앞에 있어야 함 (실시간 순서)
+ * - 조회 / 정책 위반 : 요청이 진행되는 동안 가능한 포인트(states 구간) 중 하나로 결과가 설명되어야 함
+ * - 같은 종류, 금액, 결과인 요청은 어느 이력에 대응시켜도 포인트가 같으므로, 다른 요청의 위치로 정해지는 구간에 맞게 대응시킴
+ * - 조회 / 정책 위반의 구간은 값이 같은 요청의 대응 하나에 의존하지 않도록, 가능한 모든 대응에서 성립하는 범위로 넓혀서 구함
+ */
+class PointLinearizabilityChecker {
+
+    // 한 번에 보고하는 최대 위반 수
+    private static final int MAX_VIOLATIONS = 20;
+
+    // 값이 같은 요청을 다시 대응시키는 최대 횟수
+    private static final int MAX_REASSIGN_PASSES = 10;
+
+    private final List<String> violations = new ArrayList<>();
+
+    /**
+     * 검사
+     * @param operations 기록한 요청
+     * @param historiesByUser 유저별 이력
+     * @param finalPoints 유저별 최종 포인트
+     * @return 위반 내용 (없으면 빈 목록)
+     */
+    static List<String> check(List<PointOperation> operations,
+                              Map<Long, List<PointHistory>> historiesByUser,
+                              Map<Long, Long> finalPoints) {
+        PointLinearizabilityChecker checker = new PointLinearizabilityChecker();
+        Map<Long, List<PointOperation>> operationsByUser = new HashMap<>();
+        for (PointOperation operation : operations) {
+            operationsByUser.computeIfAbsent(operation.userId(), key -> new ArrayList<>()).add(operation);
+        }
+        for (Map.Entry<Long, Long> finalPoint : finalPoints.entrySet()) {
+            long userId = finalPoint.getKey();
+            checker.checkUser(userId,
+                    operationsByUser.getOrDefault(userId, List.of()),
+                    historiesByUser.getOrDefault(userId, List.of()),
+                    finalPoint.getValue());
+        }
+        return checker.violations;
+    }
+
+    private void checkUser(long userId, List<PointOperation> operations, List<PointHistory> histories, long finalPoint) {
+        List<PointHistory> ordered = new ArrayList<>(histories);
+        ordered.sort(Comparator.comparingLong(PointHistory::id));
+        long[] states = replay(userId, ordered);
+        if (states[states.length - 1] != finalPoint) {
+            violation("userId=%d 이력 합계 %d 와 최종 포인트 %d 가 다름", userId, states[states.length - 1], finalPoint);
+        }
+
+        List<PointOperation> mutations = new ArrayList<>();
+        for (PointOperation operation : operations) {
+            if (operation.success() && operation.isMutation()) {
+                mutations.add(operation);
+            }
+        }
+        if (mutations.size() != ordered.size()) {
+            violation("userId=%d 성공한 충전/사용 %d 건, 이력 %d 건", userId, mutations.size(), ordered.size());
+        }
+
+        // 성공한 요청마다 대응하는 이력 위치 (states 인덱스, 1부터)
+        List<Group> ambiguous = new ArrayList<>();
+        Map<PointOperation, Integer> positions = assignPositions(userId, mutations, ordered, states, ambiguous);
+        if (positions.size() != mutations.size()) {
+            return;
+        }
+        checkRealTimeOrder(userId, mutations, positions, new Window(mutations, positions, states.length - 1, List.of()));
+
+        Window window = new Window(mutations, positions, states.length - 1, ambiguous);
+
+        for (PointOperation operation : operations) {
+            if (operation.success() && operation.isMutation()) {
+                continue;
+            }
+            int from = window.lowest(operation.invokeNanos());
+            int to = window.highest(operation.responseNanos());
+            if (!explained(operation, states, from, to)) {
+                violation("userId=%d %s 가 states[%d..%d]=%s 로 설명되지 않음", userId, operation, from, to,
+                        Arrays.toString(Arrays.copyOfRange(states, from, Math.max(from, to + 1))));
+            }
+        }
+    }
+
+    /**
+     * 이력을 순서대로 반영한 포인트 목록 (states[0] = 0, states[k] = k 번째 이력까지 반영한 포인트)
+     */
+    private long[] replay(long userId, List<PointHistory> histories) {
+        long[] states = new long[histories.size() + 1];
+        for (int i = 0; i < histories.size(); i++) {
+            PointHistory pointHistory = histories.get(i);
+            boolean charge = pointHistory.type() == TransactionType.CHARGE;
+            states[i + 1] = states[i] + (charge ? pointHistory.amount() : -pointHistory.amount());
+            if (states[i + 1] < 0 || states[i + 1] > PointConstant.MAX_POINT
+                    || (!charge && states[i + 1] < PointConstant.MIN_POINT)) {
+                violation("userId=%d 이력 id=%d 반영 후 포인트 %d 가 정책 범위를 벗어남", userId, pointHistory.id(), states[i + 1]);
+            }
+        }
+        return states;
+    }
+
+    private Map<PointOperation, Integer> assignPositions(long userId, List<PointOperation> mutations,
+                                                         List<PointHistory> histories, long[] states, List<Group> ambiguous) {
+        Map<String, List<Integer>> positionsByKey = new HashMap<>();
+        for (int i = 0; i < histories.size(); i++) {
+            PointHistory pointHistory = histories.get(i);
+            positionsByKey.computeIfAbsent(key(pointHistory.type().name(), pointHistory.amount(), states[i + 1]), key -> new ArrayList<>())
+                    .add(i + 1);
+        }
+        Map<String, List<PointOperation>> operationsByKey = new HashMap<>();
+        for (PointOperation operation : mutations) {
+            operationsByKey.computeIfAbsent(key(operation.kind().name(), operation.amount(), operation.point()), key -> new ArrayList<>())
+                    .add(operation);
+        }
+
+        // 같은 값의 요청도 따로 대응시키기 위해 객체 기준으로 보관
+        Map<PointOperation, Integer> positions = new IdentityHashMap<>();
+        for (Map.Entry<String, List<PointOperation>> entry : operationsByKey.entrySet()) {
+            List<PointOperation> group = entry.getValue();
+            List<Integer> candidates = positionsByKey.getOrDefault(entry.getKey(), List.of());
+            if (candidates.size() < group.size()) {
+                violation("userId=%d %s 에 대응하는 이력이 없음 (요청 %d 건, 이력 %d 건)", userId, group.get(0), group.size(), candidates.size());
+                continue;
+            }
+            // 우선 시작 순서대로 앞의 이력에 대응
+            group.sort(Comparator.comparingLong(PointOperation::invokeNanos));
+            for (int i = 0; i < group.size(); i++) {
+                positions.put(group.get(i), candidates.get(i));
+            }
+            if (group.size() > 1) {
+                ambiguous.add(new Group(group, candidates.subList(0, group.size())));
+            }
+        }
+        if (positions.size() != mutations.size()) {
+            return positions;
+        }
+
+        // 값이 같은 요청끼리는 다른 요청의 위치를 기준으로 다시 대응 (바뀌지 않을 때까지)
+        for (int pass = 0; pass < MAX_REASSIGN_PASSES; pass++) {
+            boolean changed = false;
+            for (Group group : ambiguous) {
+                changed |= reassign(group, mutations, positions);
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 값이 같은 요청을 같은 값의 이력 위치에 다시 대응
+     * - 요청마다 다른 요청의 위치로 가능한 구간 (lowest, highest] 을 구하고, 위치를 앞에서부터 채우며
+     *   가능한 요청 중 구간이 가장 먼저 끝나는 요청을 배정 (earliest deadline first)
+     * @return 대응이 바뀌었는지 여부
+     */
+    private boolean reassign(Group group, List<PointOperation> mutations, Map<PointOperation, Integer> positions) {
+        Map<PointOperation, Boolean> members = new IdentityHashMap<>();
+        group.operations().forEach(operation -> members.put(operation, true));
+        Map<PointOperation, int[]> bounds = new IdentityHashMap<>();
+        for (PointOperation operation : group.operations()) {
+            int lowest = 0;
+            int highest = Integer.MAX_VALUE;
+            for (PointOperation other : mutations) {
+                if (members.containsKey(other)) {
+                    continue;
+                }
+                if (other.responseNanos() < operation.invokeNanos()) {
+                    lowest = Math.max(lowest, positions.get(other));
+                } else if (other.invokeNanos() > operation.responseNanos()) {
+                    highest = Math.min(highest, positions.get(other));
+                }
+            }
+            bounds.put(operation, new int[]{lowest, highest});
+        }
+
+        List<PointOperation> byLowest = new ArrayList<>(group.operations());
+        byLowest.sort(Comparator.comparingInt(operation -> bounds.get(operation)[0]));
+        PriorityQueue<PointOperation> eligible = new PriorityQueue<>(Comparator.comparingInt(operation -> bounds.get(operation)[1]));
+        boolean changed = false;
+        int next = 0;
+        for (int position : group.positions()) {
+            while (next < byLowest.size() && bounds.get(byLowest.get(next))[0] < position) {
+                eligible.add(byLowest.get(next++));
+            }
+            PointOperation operation = eligible.poll();
+            if (operation == null) {
+                // 가능한 대응이 없으면 기존 대응을 유지 (검사에서 위반으로 보고)
+                return changed;
+            }
+            changed |= positions.put(operation, position) != position;
+        }
+        return changed;
+    }
+
+    private void checkRealTimeOrder(long userId, List<PointOperation> mutations, Map<PointOperation, Integer> positions, Window window) {
+        for (PointOperation operation : mutations) {
+            int position = positions.get(operation);
+            // 이 요청이 시작하기 전에 끝난 요청은 모두 앞에 있어야 함
+            if (window.lowest(operation.invokeNanos()) >= position) {
+                violation("userId=%d %s (이력 %d 번째) 가 먼저 끝난 요청(이력 %d 번째)보다 앞에 반영됨",
+                        userId, operation, position, window.lowest(operation.invokeNanos()));
+            }
+        }
+    }
+
+    private boolean explained(PointOperation operation, long[] states, int from, int to) {
+        if (operation.error() != null) {
+            return false;
+        }
+        for (int i = from; i <= to; i++) {
+            long point = states[i];
+            if (operation.kind() == PointOperation.Kind.READ) {
+                if (point == operation.point()) {
+                    return true;
+                }
+                continue;
+            }
+            boolean violated = switch (operation.rule()) {
+                case MIN_CHARGE_POINT -> operation.amount() < PointConstant.MIN_CHARGE_POINT;
+                case MIN_USE_POINT -> operation.amount() < PointConstant.MIN_USE_POINT;
+                case MAX_POINT -> point + operation.amount() > PointConstant.MAX_POINT;
+                case INSUFFICIENT_POINT -> point - operation.amount() < 0;
+                case MIN_POINT -> point - operation.amount() >= 0 && point - operation.amount() < PointConstant.MIN_POINT;
+            };
+            if (violated) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Group(List<PointOperation> operations, List<Integer> positions) {
+    }
+
+    private static String key(String type, long amount, long point) {
+        return type + ":" + amount + ":" + point;
+    }
+
+    private void violation(String format, Object... args) {
+        if (violations.size() < MAX_VIOLATIONS) {
+            violations.add(String.format(format, args));
+        }
+    }
+
+    /**
+     * 요청이 진행되는 동안 가능한 states 구간
+     * - lowest : 요청 시작 전에 끝난 성공 요청 중 가장 뒤 위치 (그 이후 상태만 볼 수 있음)
+     * - highest : 요청이 끝난 뒤 시작한 성공 요청 중 가장 앞 위치 - 1 (그 이전 상태만 볼 수 있음)
+     * - groups 의 요청은 대응한 위치 대신 같은 값의 이력 위치 중 순서 통계로 구함
+     *   (시작 전에 k 건이 끝났으면 k 번째 위치 이후, 끝난 뒤 m 건이 시작했으면 뒤에서 m 번째 위치 이전)
+     */
+    private static final class Window {
+
+        private final long[] responses;
+        private final int[] maxPositionByResponse;
+        private final long[] invokes;
+        private final int[] minPositionByInvoke;
+        private final List<GroupWindow> groupWindows = new ArrayList<>();
+        private final int lastState;
+
+        private Window(List<PointOperation> mutations, Map<PointOperation, Integer> positions, int lastState, List<Group> groups) {
+            this.lastState = lastState;
+            Map<PointOperation, Boolean> grouped = new IdentityHashMap<>();
+            for (Group group : groups) {
+                group.operations().forEach(operation -> grouped.put(operation, true));
+                groupWindows.add(new GroupWindow(group));
+            }
+            List<PointOperation> fixed = new ArrayList<>();
+            for (PointOperation operation : mutations) {
+                if (!grouped.containsKey(operation)) {
+                    fixed.add(operation);
+                }
+            }
+            int size = fixed.size();
+
+            List<PointOperation> byResponse = new ArrayList<>(fixed);
+            byResponse.sort(Comparator.comparingLong(PointOperation::responseNanos));
+            responses = new long[size];
+            maxPositionByResponse = new int[size];
+            for (int i = 0; i < size; i++) {
+                responses[i] = byResponse.get(i).responseNanos();
+                int position = positions.get(byResponse.get(i));
+                maxPositionByResponse[i] = i == 0 ? position : Math.max(maxPositionByResponse[i - 1], position);
+            }
+
+            List<PointOperation> byInvoke = new ArrayList<>(fixed);
+            byInvoke.sort(Comparator.comparingLong(PointOperation::invokeNanos));
+            invokes = new long[size];
+            minPositionByInvoke = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                invokes[i] = byInvoke.get(i).invokeNanos();
+                int position = positions.get(byInvoke.get(i));
+                minPositionByInvoke[i] = i == size - 1 ? position : Math.min(minPositionByInvoke[i + 1], position);
+            }
+        }
+
+        private int lowest(long invokeNanos) {
+            // responseNanos < invokeNanos 인 마지막 요청
+            int index = upperBound(responses, invokeNanos - 1) - 1;
+            int lowest = index < 0 ? 0 : maxPositionByResponse[index];
+            for (GroupWindow groupWindow : groupWindows) {
+                lowest = Math.max(lowest, groupWindow.lowest(invokeNanos));
+            }
+            return lowest;
+        }
+
+        private int highest(long responseNanos) {
+            // invokeNanos > responseNanos 인 첫 요청
+            int index = upperBound(invokes, responseNanos);
+            int highest = index >= invokes.length ? lastState : minPositionByInvoke[index] - 1;
+            for (GroupWindow groupWindow : groupWindows) {
+                highest = Math.min(highest, groupWindow.highest(responseNanos));
+            }
+            return highest;
+        }
+
+        /**
+         * 값이 같은 요청 묶음의 구간
+         * - 대응이 어떻게 바뀌어도 k 건은 서로 다른 위치이므로 그중 가장 뒤 위치는 k 번째 위치 이상
+         */
+        private static final class GroupWindow {
+
+            private final long[] responses;
+            private final long[] invokes;
+            private final List<Integer> positions;
+
+            private GroupWindow(Group group) {
+                responses = group.operations().stream().mapToLong(PointOperation::responseNanos).sorted().toArray();
+                invokes = group.operations().stream().mapToLong(PointOperation::invokeNanos).sorted().toArray();
+                positions = group.positions();
+            }
+
+            private int lowest(long invokeNanos) {
+                int finished = upperBound(responses, invokeNanos - 1);
+                return finished == 0 ? 0 : positions.get(finished - 1);
+            }
+
+            private int highest(long responseNanos) {
+                int started = invokes.length - upperBound(invokes, responseNanos);
+                return started == 0 ? Integer.MAX_VALUE : positions.get(positions.size() - started) - 1;
+            }
+        }
+
+        // value 보다 큰 첫 위치
+        private static int upperBound(long[] values, long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLinearizabilityCheckerTest {
+
+    private static final long USER_ID = 1L;
+
+    @Test
+    @DisplayName("겹치는 요청은 어느 순서로든 설명되면 통과")
+    void testConcurrentOperations() {
+        // 두 충전이 겹쳐서 진행되고 나중에 시작한 충전이 먼저 반영됨, 조회는 두 충전 사이의 포인트를 봄
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 50, 1500L),
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 500L, 10, 20, 500L),
+                PointOperation.success(USER_ID, PointOperation.Kind.READ, 0L, 15, 40, 500L),
+                PointOperation.rejected(USER_ID, PointOperation.Kind.USE, 1000L, 5, 30, PointPolicyException.Rule.INSUFFICIENT_POINT)
+        );
+        List<PointHistory> histories = List.of(
+                history(1L, 500L, TransactionType.CHARGE),
+                history(2L, 1000L, TransactionType.CHARGE)
+        );
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 1500L));
+
+        assertEquals(List.of(), violations);
+    }
+
+    @Test
+    @DisplayName("차례로 끝난 충전이 같은 포인트를 반환하면 (갱신 유실) 위반")
+    void testLostUpdate() {
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 10, 1000L),
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 20, 30, 1000L)
+        );
+        List<PointHistory> histories = List.of(
+                history(1L, 1000L, TransactionType.CHARGE),
+                history(2L, 1000L, TransactionType.CHARGE)
+        );
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 1000L));
+
+        assertFalse(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("이력 순서가 요청이 끝난 순서와 다르면 위반")
+    void testHistoryOutOfOrder() {
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 10, 1000L),
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 500L, 20, 30, 1500L)
+        );
+        List<PointHistory> histories = List.of(
+                history(1L, 500L, TransactionType.CHARGE),
+                history(2L, 1000L, TransactionType.CHARGE)
+        );
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 1500L));
+
+        assertFalse(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("충전이 끝난 뒤 시작한 조회가 이전 포인트를 보거나, 정책 위반 사유가 맞지 않으면 위반")
+    void testStaleReadAndWrongRejection() {
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 10, 1000L),
+                PointOperation.success(USER_ID, PointOperation.Kind.READ, 0L, 20, 30, 0L),
+                PointOperation.rejected(USER_ID, PointOperation.Kind.USE, 500L, 40, 50, PointPolicyException.Rule.INSUFFICIENT_POINT)
+        );
+        List<PointHistory> histories = List.of(history(1L, 1000L, TransactionType.CHARGE));
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 1000L));
+
+        assertEquals(2, violations.size());
+    }
+
+    @Test
+    @DisplayName("값이 같은 요청을 어느 이력에 대응시키는지에 따라 조회가 위반으로 보고되지 않음")
+    void testReadBetweenSameValueOperations() {
+        // 값이 같은 충전 두 건(500P, 반영 후 1500P) 중 먼저 끝난 충전이 두 번째 이력, 조회는 사용 후 포인트를 봄
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 1, 1000L),
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 500L, 2, 100, 1500L),
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 500L, 3, 10, 1500L),
+                PointOperation.success(USER_ID, PointOperation.Kind.USE, 500L, 4, 18, 1000L),
+                PointOperation.success(USER_ID, PointOperation.Kind.READ, 0L, 20, 30, 1000L)
+        );
+        List<PointHistory> histories = List.of(
+                history(1L, 1000L, TransactionType.CHARGE),
+                history(2L, 500L, TransactionType.CHARGE),
+                history(3L, 500L, TransactionType.USE),
+                history(4L, 500L, TransactionType.CHARGE)
+        );
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 1500L));
+
+        assertEquals(List.of(), violations);
+    }
+
+    @Test
+    @DisplayName("이력 합계가 최종 포인트와 다르면 위반")
+    void testHistorySumMismatch() {
+        List<PointOperation> operations = List.of(
+                PointOperation.success(USER_ID, PointOperation.Kind.CHARGE, 1000L, 0, 10, 1000L)
+        );
+        List<PointHistory> histories = List.of(history(1L, 1000L, TransactionType.CHARGE));
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, Map.of(USER_ID, histories), Map.of(USER_ID, 2000L));
+
+        assertEquals(1, violations.size());
+    }
+
+    private static PointHistory history(long id, long amount, TransactionType type) {
+        return new PointHistory(id, USER_ID, amount, type, 0L);
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointPolicyException;
+
+/**
+ * 스트레스 테스트에서 기록한 요청 하나
+ * - invokeNanos / responseNanos : 호출 직전 / 반환(예외) 직후 시각 (System.nanoTime)
+ * - 성공 시 point 에 반환된 포인트, 정책 위반 시 rule, 그 외 예외는 error 에 기록
+ */
+record PointOperation(
+        long userId,
+        Kind kind,
+        long amount,
+        long invokeNanos,
+        long responseNanos,
+        boolean success,
+        long point,
+        PointPolicyException.Rule rule,
+        String error
+) {
+
+    static PointOperation success(long userId, Kind kind, long amount, long invokeNanos, long responseNanos, long point) {
+        return new PointOperation(userId, kind, amount, invokeNanos, responseNanos, true, point, null, null);
+    }
+
+    static PointOperation rejected(long userId, Kind kind, long amount, long invokeNanos, long responseNanos, PointPolicyException.Rule rule) {
+        return new PointOperation(userId, kind, amount, invokeNanos, responseNanos, false, 0L, rule, null);
+    }
+
+    static PointOperation failed(long userId, Kind kind, long amount, long invokeNanos, long responseNanos, String error) {
+        return new PointOperation(userId, kind, amount, invokeNanos, responseNanos, false, 0L, null, error);
+    }
+
+    boolean isMutation() {
+        return kind != Kind.READ;
+    }
+
+    /**
+     * 요청 종류
+     * - CHARGE : 충전, USE : 사용, READ : 포인트 조회
+     */
+    enum Kind {
+        CHARGE, USE, READ
+    }
+}
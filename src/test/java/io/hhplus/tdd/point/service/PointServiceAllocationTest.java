@@ -0,0 +1,235 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.concurrency.CombiningPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.LockPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.CoalescingUserPointRepository;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 충전/사용 경로의 요청당 할당량 검사
+ * - 호출한 스레드가 할당한 바이트(com.sun.management.ThreadMXBean)를 요청 수로 나눠 예산과 비교
+ * - JIT 컴파일이나 GC 시점에 따른 오차를 줄이기 위해 여러 번 측정한 값 중 가장 작은 값을 사용
+ * - 람다 할당 제거(escape analysis)는 다른 테스트가 같은 호출 지점을 거쳤는지에 따라 달라지므로, 단독 실행과 전체 실행 측정값 중 큰 값에 여유를 둠
+ * - 이력 저장(writer 스레드)처럼 다른 스레드의 할당은 포함하지 않음
+ * - 성공한 요청은 UserPointTable 의 저장 지연 때문에 기본형 배열 저장소로만 측정
+ * - 자세한 할당 분석은 PointAllocationBenchmark (-Pjmh.profilers=gc)
+ */
+class PointServiceAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 20_000;
+    private static final int ROUNDS = 5;
+
+    // 금액 검사에서 거절된 요청 (유저 락 전) : 미리 만들어 둔 예외를 사용하므로 할당이 없어야 함 (측정 오차 허용)
+    private static final long REJECTED_BEFORE_LOCK_BUDGET_BYTES = 8;
+
+    // 유저 락 안에서 거절된 요청 (보유 포인트 부족, 최대 포인트 초과) : 계산/확정 람다, 유저 락 항목, 사용자 ID 박싱 (측정값 192~288B)
+    private static final long REJECTED_IN_LOCK_BUDGET_BYTES = 352;
+
+    // 기본 구성 (합치기 + 유저 락, 캐시 + 조회 합치기 + 메모리 테이블) 에서 락 안에서 거절된 요청
+    // - 합치기 연산/큐 노드/배치 목록과 배치 람다, 캐시의 확정 람다, 저장소 지표 기록 람다 추가 (측정값 536~568B)
+    private static final long REJECTED_IN_LOCK_DEFAULT_BUDGET_BYTES = 704;
+
+    // 메모리 테이블 저장소를 캐시 없이 사용할 때 락 안에서 거절된 요청 : 저장소 지표 기록 람다 추가 (측정값 224~232B)
+    private static final long REJECTED_IN_LOCK_MEMORY_BUDGET_BYTES = 352;
+
+    // 성공한 요청 : 계산/확정 람다, UserPoint, 유저 락 항목, 이력 큐 항목 (측정값 405~407B)
+    private static final long ACCEPTED_BUDGET_BYTES = 512;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PointMetrics pointMetrics;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        pointHistoryRepository = new DiscardingHistoryRepository();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("금액 검사에서 거절된 충전/사용은 객체를 할당하지 않음")
+    void testRejectedBeforeLockAllocation() {
+        PointService pointService = primitivePointService();
+        Runnable rejected = () -> {
+            expectChargeRejected(pointService, PointConstant.MIN_CHARGE_POINT - 1, PointPolicyException.Rule.MIN_CHARGE_POINT);
+            expectUseRejected(pointService, PointConstant.MIN_USE_POINT - 1, PointPolicyException.Rule.MIN_USE_POINT);
+        };
+
+        long bytesPerRequest = allocatedBytesPerRun(rejected) / 2;
+
+        assertTrue(bytesPerRequest <= REJECTED_BEFORE_LOCK_BUDGET_BYTES, "rejected before lock=" + bytesPerRequest + "B/request");
+    }
+
+    @Test
+    @DisplayName("유저 락 안에서 거절된 충전/사용 (최대 포인트 초과, 보유 포인트 부족) 의 요청당 할당량이 예산 이하")
+    void testRejectedInLockAllocation() {
+        long bytesPerRequest = allocatedBytesPerRun(inLockRejected(primitivePointService())) / 2;
+
+        assertTrue(bytesPerRequest <= REJECTED_IN_LOCK_BUDGET_BYTES, "rejected in lock=" + bytesPerRequest + "B/request");
+    }
+
+    @Test
+    @DisplayName("기본 구성에서 유저 락 안에서 거절된 충전/사용의 요청당 할당량이 예산 이하")
+    void testRejectedInLockAllocationDefaultWiring() {
+        UserPointRepositoryImpl storage = new UserPointRepositoryImpl(new UserPointTable(), pointMetrics);
+        UserPointRepository userPointRepository = new CachedUserPointRepository(new CoalescingUserPointRepository(storage, pointMetrics));
+        PointUpdateExecutor pointUpdateExecutor = new CombiningPointUpdateExecutor(
+                new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics)), pointMetrics);
+        PointService pointService = pointService(userPointRepository, pointUpdateExecutor);
+
+        long bytesPerRequest = allocatedBytesPerRun(inLockRejected(pointService)) / 2;
+
+        assertTrue(bytesPerRequest <= REJECTED_IN_LOCK_DEFAULT_BUDGET_BYTES, "rejected in lock (default)=" + bytesPerRequest + "B/request");
+    }
+
+    @Test
+    @DisplayName("메모리 테이블 저장소를 캐시 없이 사용할 때 유저 락 안에서 거절된 충전/사용의 요청당 할당량이 예산 이하")
+    void testRejectedInLockAllocationMemoryRepository() {
+        UserPointRepositoryImpl userPointRepository = new UserPointRepositoryImpl(new UserPointTable(), pointMetrics);
+        PointService pointService = pointService(userPointRepository,
+                new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics)));
+
+        long bytesPerRequest = allocatedBytesPerRun(inLockRejected(pointService)) / 2;
+
+        assertTrue(bytesPerRequest <= REJECTED_IN_LOCK_MEMORY_BUDGET_BYTES, "rejected in lock (memory)=" + bytesPerRequest + "B/request");
+    }
+
+    @Test
+    @DisplayName("성공한 충전/사용의 요청당 할당량이 예산 이하")
+    void testAcceptedAllocation() {
+        PointService pointService = primitivePointService();
+        Runnable accepted = () -> {
+            pointService.chargePoint(1L, PointConstant.MIN_CHARGE_POINT);
+            pointService.usePoint(1L, PointConstant.MIN_USE_POINT);
+        };
+
+        long bytesPerRequest = allocatedBytesPerRun(accepted) / 2;
+
+        assertTrue(bytesPerRequest <= ACCEPTED_BUDGET_BYTES, "accepted=" + bytesPerRequest + "B/request");
+    }
+
+    private PointService primitivePointService() {
+        PrimitiveUserPointRepository userPointRepository = new PrimitiveUserPointRepository(16, new SimpleMeterRegistry());
+        return pointService(userPointRepository, new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics)));
+    }
+
+    // 유저 1 의 포인트를 최대 포인트의 절반으로 저장한 서비스
+    private PointService pointService(UserPointRepository userPointRepository, PointUpdateExecutor pointUpdateExecutor) {
+        userPointRepository.insertOrUpdate(1L, PointConstant.MAX_POINT / 2);
+        return new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                new PointAggregateRepository(pointHistoryRepository, "UTC"), pointUpdateExecutor, pointMetrics);
+    }
+
+    private static Runnable inLockRejected(PointService pointService) {
+        return () -> {
+            expectChargeRejected(pointService, PointConstant.MAX_POINT, PointPolicyException.Rule.MAX_POINT);
+            expectUseRejected(pointService, PointConstant.MAX_POINT, PointPolicyException.Rule.INSUFFICIENT_POINT);
+        };
+    }
+
+    // 측정 대상 밖의 할당이 섞이지 않도록 람다로 감싸지 않고 직접 호출
+    private static void expectChargeRejected(PointService pointService, long amount, PointPolicyException.Rule rule) {
+        try {
+            pointService.chargePoint(1L, amount);
+            fail();
+        } catch (PointPolicyException e) {
+            if (e.getRule() != rule) {
+                fail(e.getRule().name());
+            }
+        }
+    }
+
+    private static void expectUseRejected(PointService pointService, long amount, PointPolicyException.Rule rule) {
+        try {
+            pointService.usePoint(1L, amount);
+            fail();
+        } catch (PointPolicyException e) {
+            if (e.getRule() != rule) {
+                fail(e.getRule().name());
+            }
+        }
+    }
+
+    private static long allocatedBytesPerRun(Runnable run) {
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                run.run();
+            }
+            min = Math.min(min, (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before) / ITERATIONS);
+        }
+        return min;
+    }
+
+    /**
+     * 저장하지 않고 버리는 이력 저장소 (이력 저장 비용 제외)
+     */
+    private static class DiscardingHistoryRepository implements PointHistoryRepository {
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(0L, userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return List.of();
+        }
+
+        @Override
+        public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+            return new PointHistoryPage(List.of(), null);
+        }
+
+        @Override
+        public List<Long> selectUserIds() {
+            return List.of();
+        }
+
+        @Override
+        public long selectLastId() {
+            return 0L;
+        }
+    }
+}
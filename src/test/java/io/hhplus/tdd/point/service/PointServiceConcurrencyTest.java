@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class PointServiceConcurrencyTest {
@@ -20,6 +22,9 @@ class PointServiceConcurrencyTest {
     @Autowired
     private PointService pointService;
 
+    @Autowired
+    private UserLockManager userLockManager;
+
     @Test
     @DisplayName("동시에 충전하는 경우")
     void chargePoint() throws InterruptedException {
@@ -152,4 +157,40 @@ class PointServiceConcurrencyTest {
         assertEquals(initPoint, result.point());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("여러 유저가 동시에 충전하는 경우 - 유저 간 대기 없이 병렬 처리")
+    void chargePointMultiUser() throws InterruptedException {
+        long startUserId = 1000L;
+        int userCount = 50;
+        int chargeCountPerUser = 2;
+
+        int threadCount = userCount * chargeCountPerUser;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < threadCount; i++) {
+            long userId = startUserId + (i % userCount);
+            executorService.execute(() -> {
+                try {
+                    pointService.chargePoint(userId, 100L);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executorService.shutdown();
+
+        // 조회 + 저장 + 이력 저장의 최대 지연이 800ms 이므로, 유저별 직렬 처리만 된다면 전체 소요 시간은 유저당 요청 수에 비례
+        // 전역 락이었다면 100건 * 평균 400ms 로 약 40초가 소요됨
+        assertTrue(elapsedMillis < chargeCountPerUser * 800L + 2000L, "elapsed " + elapsedMillis + "ms");
+        for (int i = 0; i < userCount; i++) {
+            assertEquals(chargeCountPerUser * 100L, pointService.getUserPoint(startUserId + i).point());
+        }
+        assertEquals(0, userLockManager.size());
+    }
+
+}
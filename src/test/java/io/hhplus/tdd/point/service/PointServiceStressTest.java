@@ -0,0 +1,298 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.concurrency.CombiningPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.LockPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.OptimisticPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.ShardedPointUpdateExecutor;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointPolicyException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.CoalescingUserPointRepository;
+import io.hhplus.tdd.point.repository.MappedUserPointRepository;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 포인트 갱신 방식별 스트레스 테스트
+ * - 여러 스레드가 여러 유저에게 충전/사용/조회를 섞어 요청하고, 요청마다 시작/종료 시각과 결과를 기록
+ * - 요청 내용(유저, 종류, 금액)은 스레드별 고정 seed 로 만들어 매번 같음 (실행 순서만 다름)
+ * - 기록한 요청과 이력, 최종 포인트를 PointLinearizabilityChecker 로 검사하고, 집계가 이력과 같은지 확인
+ * - 지연 없는 저장소를 사용해 짧은 시간에 많은 요청을 겹치게 함
+ * - 갱신 방식(Mode)과 포인트 저장소(Storage)의 모든 조합을 검사
+ * - 새 갱신 방식이나 저장소를 추가하면 Mode, Storage 에 추가
+ */
+class PointServiceStressTest {
+
+    private static final long SEED = 20_240_101L;
+    private static final int THREAD_COUNT = 16;
+    private static final int OPERATIONS_PER_THREAD = 1_000;
+    private static final int USER_COUNT = 8;
+
+    // 충전/사용 금액 (최소 금액 미만 포함)
+    private static final long[] AMOUNTS = {50L, 100L, 500L, 1_000L, 5_000L, 20_000L};
+
+    @TempDir
+    Path directory;
+
+    static Stream<Arguments> modeAndStorage() {
+        return Arrays.stream(Mode.values())
+                .flatMap(mode -> Arrays.stream(Storage.values()).map(storage -> Arguments.of(mode, storage)));
+    }
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @MethodSource("modeAndStorage")
+    @DisplayName("동시에 섞어 요청한 충전/사용/조회가 유저별로 선형성을 만족하고 이력 합계가 포인트와 같음")
+    void testLinearizable(Mode mode, Storage storage) throws Exception {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        UserPointRepository userPointRepository = storage.repository(pointMetrics, directory);
+        IndexedHistoryRepository pointHistoryRepository = new IndexedHistoryRepository();
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository);
+        pointHistoryWriter.start();
+        PointAggregateRepository pointAggregateRepository = new PointAggregateRepository(pointHistoryRepository, "UTC");
+        PointUpdateExecutor pointUpdateExecutor = mode.executor(userPointRepository, pointMetrics);
+        PointService pointService = new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter,
+                pointAggregateRepository, pointUpdateExecutor, pointMetrics);
+
+        List<PointOperation> operations = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<PointOperation>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                SplittableRandom random = new SplittableRandom(SEED + thread);
+                futures.add(executorService.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return run(pointService, random);
+                }));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<List<PointOperation>> future : futures) {
+                operations.addAll(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+            mode.shutdown(pointUpdateExecutor);
+        }
+
+        Map<Long, List<PointHistory>> historiesByUser = new HashMap<>();
+        Map<Long, Long> finalPoints = new HashMap<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            pointHistoryWriter.awaitFlushed(userId);
+            historiesByUser.put(userId, pointHistoryRepository.selectAllByUserId(userId));
+            finalPoints.put(userId, userPointRepository.selectById(userId).point());
+        }
+        pointHistoryWriter.shutdown();
+        storage.close(userPointRepository);
+
+        List<String> violations = PointLinearizabilityChecker.check(operations, historiesByUser, finalPoints);
+        assertTrue(violations.isEmpty(), "mode=" + mode + ", storage=" + storage + ", seed=" + SEED + "\n" + String.join("\n", violations));
+
+        long succeeded = operations.stream().filter(operation -> operation.success() && operation.isMutation()).count();
+        long rejected = operations.stream().filter(operation -> operation.rule() != null).count();
+        assertTrue(succeeded > 0 && rejected > 0, "succeeded=" + succeeded + ", rejected=" + rejected);
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            PointAggregate aggregate = pointAggregateRepository.findByUserId(userId);
+            assertEquals(finalPoints.get(userId), aggregate.totalCharged() - aggregate.totalUsed());
+            assertEquals(historiesByUser.get(userId).size(), aggregate.transactionCount());
+        }
+    }
+
+    private static List<PointOperation> run(PointService pointService, SplittableRandom random) {
+        List<PointOperation> operations = new ArrayList<>(OPERATIONS_PER_THREAD);
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            long userId = random.nextInt(USER_COUNT) + 1;
+            int choice = random.nextInt(10);
+            PointOperation.Kind kind = choice < 5 ? PointOperation.Kind.CHARGE : choice < 9 ? PointOperation.Kind.USE : PointOperation.Kind.READ;
+            long amount = kind == PointOperation.Kind.READ ? 0L : AMOUNTS[random.nextInt(AMOUNTS.length)];
+
+            long invoke = System.nanoTime();
+            try {
+                long point = switch (kind) {
+                    case CHARGE -> pointService.chargePoint(userId, amount).point();
+                    case USE -> pointService.usePoint(userId, amount).point();
+                    case READ -> pointService.getUserPoint(userId).point();
+                };
+                operations.add(PointOperation.success(userId, kind, amount, invoke, System.nanoTime(), point));
+            } catch (PointPolicyException e) {
+                operations.add(PointOperation.rejected(userId, kind, amount, invoke, System.nanoTime(), e.getRule()));
+            } catch (RuntimeException e) {
+                operations.add(PointOperation.failed(userId, kind, amount, invoke, System.nanoTime(), e.toString()));
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * 검사할 포인트 갱신 방식 (point.concurrency.mode, point.concurrency.write-combining 과 대응)
+     */
+    enum Mode {
+        LOCK {
+            @Override
+            PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+                return new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics));
+            }
+        },
+        LOCK_COMBINING {
+            @Override
+            PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+                return new CombiningPointUpdateExecutor(LOCK.executor(userPointRepository, pointMetrics), pointMetrics);
+            }
+        },
+        OPTIMISTIC {
+            @Override
+            PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+                return new OptimisticPointUpdateExecutor(userPointRepository, pointMetrics);
+            }
+        },
+        SHARDED {
+            @Override
+            PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics) {
+                ShardedPointUpdateExecutor executor = new ShardedPointUpdateExecutor(userPointRepository, pointMetrics, 4);
+                executor.start();
+                return executor;
+            }
+        };
+
+        abstract PointUpdateExecutor executor(UserPointRepository userPointRepository, PointMetrics pointMetrics);
+
+        void shutdown(PointUpdateExecutor executor) throws InterruptedException {
+            if (executor instanceof ShardedPointUpdateExecutor shardedExecutor) {
+                shardedExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 검사할 포인트 저장소 (point.storage.type 과 대응)
+     * - PRIMITIVE : 기본형 배열 저장소
+     * - MEMORY : 기본 구성 (캐시 + 조회 합치기 + 메모리 테이블 저장소), 테이블은 지연 없는 테이블로 대체
+     * - MMAP : 임시 디렉터리의 메모리 매핑 로그 저장소
+     */
+    enum Storage {
+        PRIMITIVE {
+            @Override
+            UserPointRepository repository(PointMetrics pointMetrics, Path directory) {
+                return new PrimitiveUserPointRepository(USER_COUNT, new SimpleMeterRegistry());
+            }
+        },
+        MEMORY {
+            @Override
+            UserPointRepository repository(PointMetrics pointMetrics, Path directory) {
+                UserPointRepositoryImpl storage = new UserPointRepositoryImpl(new UnthrottledUserPointTable(), pointMetrics);
+                return new CachedUserPointRepository(new CoalescingUserPointRepository(storage, pointMetrics));
+            }
+        },
+        MMAP {
+            @Override
+            UserPointRepository repository(PointMetrics pointMetrics, Path directory) {
+                return new MappedUserPointRepository(directory, 1_024, pointMetrics);
+            }
+
+            @Override
+            void close(UserPointRepository userPointRepository) {
+                ((MappedUserPointRepository) userPointRepository).close();
+            }
+        };
+
+        abstract UserPointRepository repository(PointMetrics pointMetrics, Path directory);
+
+        void close(UserPointRepository userPointRepository) {
+        }
+    }
+
+    /**
+     * 지연 없는 유저 포인트 테이블 (UserPointTable 의 공개된 API 만 대체)
+     */
+    private static class UnthrottledUserPointTable extends UserPointTable {
+
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    /**
+     * 지연 없이 인덱스에만 저장하는 이력 저장소
+     */
+    private static class IndexedHistoryRepository implements PointHistoryRepository {
+
+        private final AtomicLong cursor = new AtomicLong(1);
+        private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            pointHistoryIndex.append(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return pointHistoryIndex.findAllByUserId(userId);
+        }
+
+        @Override
+        public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+            return pointHistoryIndex.findPageByUserId(userId, condition);
+        }
+
+        @Override
+        public List<Long> selectUserIds() {
+            return pointHistoryIndex.findAllUserIds();
+        }
+
+        @Override
+        public long selectLastId() {
+            return pointHistoryIndex.lastId();
+        }
+    }
+}
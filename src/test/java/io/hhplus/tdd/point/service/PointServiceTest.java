@@ -1,21 +1,49 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.PointConstant;
+import io.hhplus.tdd.point.concurrency.LockPointUpdateExecutor;
+import io.hhplus.tdd.point.concurrency.PointUpdateExecutor;
+import io.hhplus.tdd.point.dto.PointAggregate;
+import io.hhplus.tdd.point.dto.PointBatchItem;
+import io.hhplus.tdd.point.dto.PointBatchResult;
+import io.hhplus.tdd.point.dto.PointBulkResult;
+import io.hhplus.tdd.point.dto.PointDailyAggregate;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointAggregateRepository;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointBulkRead;
 import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,11 +52,22 @@ class PointServiceTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository;
     @Mock
+    private PointHistoryWriter pointHistoryWriter;
+    @Mock
     private UserPointRepository userPointRepository;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private PointMetrics pointMetrics = new PointMetrics(meterRegistry);
 
-    @InjectMocks
     private PointService pointService;
 
+    @BeforeEach
+    void setUp() {
+        PointUpdateExecutor pointUpdateExecutor = new LockPointUpdateExecutor(userPointRepository, new UserLockManager(pointMetrics));
+        PointAggregateRepository pointAggregateRepository = new PointAggregateRepository(pointHistoryRepository, "UTC");
+        pointService = new PointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, pointAggregateRepository, pointUpdateExecutor, pointMetrics);
+    }
+
     @Test
     @DisplayName("존재하는 유저인 경우 포인트 조회가 성공")
     void testUserPointsExist() {
@@ -44,6 +83,32 @@ class PointServiceTest {
         assertEquals(amount, result.point());
     }
 
+    @Test
+    @DisplayName("여러 유저 조회 시 중복 ID 는 한 번만 조회하고 조회하지 못한 유저는 원인에 따른 실패 사유로 반환")
+    void testGetUserPoints() {
+        UserPoint userPoint = new UserPoint(1L, 1000L, System.currentTimeMillis());
+        when(userPointRepository.selectByIds(Set.of(1L, 2L, 3L))).thenReturn(new UserPointBulkRead(Map.of(1L, userPoint),
+                Map.of(2L, new RejectedExecutionException(), 3L, new RuntimeException("테이블 오류"))));
+
+        PointBulkResult result = pointService.getUserPoints(List.of(1L, 2L, 1L, 3L));
+
+        assertEquals(Map.of(1L, userPoint), result.userPoints());
+        assertEquals(Set.of(2L, 3L), result.failures().keySet());
+        assertEquals("요청이 많아 조회하지 못했습니다. 잠시 후 다시 시도해주세요.", result.failures().get(2L));
+        assertEquals("포인트를 조회하지 못했습니다.", result.failures().get(3L));
+    }
+
+    @Test
+    @DisplayName("여러 유저 조회 시 유저 수가 최대를 넘으면 예외 발생")
+    void testGetUserPointsTooMany() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= PointConstant.MAX_BULK_READ_SIZE + 1; id++) {
+            ids.add(id);
+        }
+
+        assertThrows(RuntimeException.class, () -> pointService.getUserPoints(ids));
+    }
+
     @Test
     @DisplayName("존재하지 않는 유저인 경우 예외 발생")
     void testUserPointsNotExist() {
@@ -95,6 +160,28 @@ class PointServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("이력 내보내기는 cursor 로 나눠 조회한 묶음을 순서대로 전달")
+    void testExportUserPointHistories() {
+        long id = 1L;
+
+        when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id, 1500L, System.currentTimeMillis()));
+
+        PointHistory history1 = new PointHistory(1L, id, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory history2 = new PointHistory(2L, id, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+        when(pointHistoryRepository.selectPageByUserId(eq(id), any(PointHistoryCondition.class))).thenAnswer(invocation -> {
+            PointHistoryCondition condition = invocation.getArgument(1);
+            return condition.cursor() == null
+                    ? new PointHistoryPage(List.of(history1), history1.id())
+                    : new PointHistoryPage(List.of(history2), null);
+        });
+
+        List<List<PointHistory>> chunks = new ArrayList<>();
+        pointService.exportUserPointHistories(id).accept(chunks::add);
+
+        assertEquals(List.of(List.of(history1), List.of(history2)), chunks);
+    }
+
     @Test
     @DisplayName("정상적인 포인트 충전")
     void testUserPointsCharge() {
@@ -134,6 +221,83 @@ class PointServiceTest {
         assertEquals(initPoint - usePoint, result.point());
     }
 
+    @Test
+    @DisplayName("일괄 처리 시 조회와 저장은 한 번씩만 하고 항목별 결과 반환")
+    void testApplyBatch() {
+        long id = 1L;
+        long initPoint = 1000L;
+
+        when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id, initPoint, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(id, 1300L)).thenReturn(new UserPoint(id, 1300L, System.currentTimeMillis()));
+
+        List<PointBatchItem> items = List.of(
+                new PointBatchItem(id, TransactionType.CHARGE, 500L),
+                new PointBatchItem(id, TransactionType.USE, 5000L),
+                new PointBatchItem(id, TransactionType.USE, 200L)
+        );
+
+        List<PointBatchResult> results = pointService.applyBatch(id, items);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).success());
+        assertEquals(1500L, results.get(0).userPoint().point());
+        assertFalse(results.get(1).success());
+        assertEquals("보유 포인트가 부족합니다.", results.get(1).message());
+        assertTrue(results.get(2).success());
+        assertEquals(1300L, results.get(2).userPoint().point());
+        verify(userPointRepository, times(1)).selectById(id);
+        verify(userPointRepository, times(1)).insertOrUpdate(id, 1300L);
+    }
+
+    @Test
+    @DisplayName("일괄 처리의 모든 요청이 실패하면 포인트를 저장하지 않음")
+    void testApplyBatchAllRejected() {
+        long id = 1L;
+        UserPoint userPoint = new UserPoint(id, 1000L, System.currentTimeMillis());
+
+        when(userPointRepository.selectById(id)).thenReturn(userPoint);
+
+        List<PointBatchItem> items = List.of(
+                new PointBatchItem(id, TransactionType.USE, 5000L),
+                new PointBatchItem(id, TransactionType.CHARGE, 10L)
+        );
+
+        List<PointBatchResult> results = pointService.applyBatch(id, items);
+
+        assertFalse(results.get(0).success());
+        assertFalse(results.get(1).success());
+        verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryWriter, never()).write(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("충전/사용할 때마다 집계를 누적해 이력 조회 없이 반환")
+    void testUserPointAggregate() {
+        long id = 1L;
+
+        when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id, 1000L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(eq(id), any(Long.class))).thenAnswer(invocation ->
+                new UserPoint(id, invocation.getArgument(1), System.currentTimeMillis()));
+
+        pointService.chargePoint(id, 500L);
+        pointService.chargePoint(id, 300L);
+        pointService.usePoint(id, 200L);
+
+        PointAggregate aggregate = pointService.getUserPointAggregate(id);
+        assertEquals(800L, aggregate.totalCharged());
+        assertEquals(200L, aggregate.totalUsed());
+        assertEquals(2L, aggregate.chargeCount());
+        assertEquals(3L, aggregate.transactionCount());
+        assertTrue(aggregate.lastActivityMillis() > 0);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<PointDailyAggregate> daily = pointService.getUserPointDailyAggregates(id, today.minusDays(1), today.plusDays(1));
+        assertEquals(1, daily.size());
+        assertEquals(new PointDailyAggregate(today, 800L, 200L, 2L, 1L), daily.get(0));
+        verify(pointHistoryRepository, times(0)).selectAllByUserId(id);
+        assertThrows(RuntimeException.class, () -> pointService.getUserPointDailyAggregates(id, today, today.minusDays(1)));
+    }
+
     @Test
     @DisplayName("보유 포인트가 부족한 경우 예외 발생")
     void testUserPointsUseInsufficient() {
@@ -182,6 +346,24 @@ class PointServiceTest {
         assertEquals("충전 후 보유 포인트는 " + PointConstant.MAX_POINT + "P를 초과할 수 없습니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("정책 위반으로 실패한 충전은 위반한 정책별로 집계")
+    void testChargeRejectedMetric() {
+        long userId = 1L;
+
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, PointConstant.MAX_POINT, System.currentTimeMillis()));
+
+        assertThrows(RuntimeException.class, () -> pointService.chargePoint(userId, 1000L));
+
+        double rejected = meterRegistry.get("point.transaction")
+                .tag("type", "CHARGE")
+                .tag("result", "rejected")
+                .tag("rule", "MAX_POINT")
+                .counter()
+                .count();
+        assertEquals(1.0, rejected);
+    }
+
     @Test
     @DisplayName("사용 포인트가 최소 사용 포인트 미만인 경우 예외 발생")
     void testUseBelowMinUsePoint() {
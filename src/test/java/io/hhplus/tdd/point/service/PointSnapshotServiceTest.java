@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointAuditResult;
+import io.hhplus.tdd.point.dto.PointHistoryCondition;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.storage.PointSnapshot;
+import io.hhplus.tdd.point.storage.PointSnapshotStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointSnapshotServiceTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
+
+    private final HistoryRepository pointHistoryRepository = new HistoryRepository();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷은 이전 스냅샷에 이후 이력만 더해 만들고 복원은 스냅샷 이후 이력만 반영")
+    void testIncrementalSnapshot() {
+        PointSnapshotService pointSnapshotService = newService(null);
+        pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        pointHistoryRepository.insert(2L, 500L, TransactionType.CHARGE, 20L);
+        pointHistoryRepository.insert(1L, 300L, TransactionType.USE, 30L);
+
+        PointSnapshot first = pointSnapshotService.takeSnapshot();
+        assertEquals(3L, first.lastHistoryId());
+        assertEquals(700L, first.point(first.indexOf(1L)));
+        assertEquals(500L, first.point(first.indexOf(2L)));
+
+        pointHistoryRepository.insert(2L, 200L, TransactionType.USE, 40L);
+        pointHistoryRepository.insert(3L, 100L, TransactionType.CHARGE, 50L);
+
+        assertEquals(new UserPoint(2L, 300L, 40L), pointSnapshotService.restore(2L));
+
+        PointSnapshot second = pointSnapshotService.takeSnapshot();
+        assertEquals(5L, second.lastHistoryId());
+        assertEquals(3, second.size());
+        assertEquals(700L, second.point(second.indexOf(1L)));
+        assertEquals(300L, second.point(second.indexOf(2L)));
+        assertEquals(100L, second.point(second.indexOf(3L)));
+        assertSame(second, pointSnapshotService.takeSnapshot());
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성 시 이전 스냅샷 이후 이력이 추가된 유저만 이력을 조회")
+    void testSnapshotQueriesUpdatedUsersOnly() {
+        PointSnapshotService pointSnapshotService = newService(null);
+        for (long userId = 1; userId <= 5; userId++) {
+            pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, 10L);
+        }
+        pointSnapshotService.takeSnapshot();
+        pointHistoryRepository.pagedUserIds.clear();
+
+        pointHistoryRepository.insert(3L, 400L, TransactionType.USE, 20L);
+        PointSnapshot snapshot = pointSnapshotService.takeSnapshot();
+
+        assertEquals(List.of(3L), pointHistoryRepository.pagedUserIds);
+        assertEquals(5, snapshot.size());
+        assertEquals(600L, snapshot.point(snapshot.indexOf(3L)));
+        assertEquals(1000L, snapshot.point(snapshot.indexOf(5L)));
+    }
+
+    @Test
+    @DisplayName("검증은 스냅샷 이후 이력만 반영한 포인트를 저장된 포인트와 비교")
+    void testAudit() {
+        PointSnapshotService pointSnapshotService = newService(null);
+        pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        pointSnapshotService.takeSnapshot();
+        pointHistoryRepository.insert(1L, 400L, TransactionType.USE, 20L);
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 600L, 20L));
+
+        PointAuditResult result = pointSnapshotService.audit(1L);
+
+        assertTrue(result.matched());
+        assertEquals(1L, result.snapshotHistoryId());
+        assertEquals(1, result.replayedHistories());
+        assertEquals(600L, result.expectedPoint());
+    }
+
+    @Test
+    @DisplayName("시작 시 파일에 저장된 최신 스냅샷을 읽어 이어서 생성")
+    void testLoadSnapshotOnStart() {
+        PointSnapshotStore pointSnapshotStore = new PointSnapshotStore(directory);
+        PointSnapshotService pointSnapshotService = newService(pointSnapshotStore);
+        pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        pointSnapshotService.takeSnapshot();
+        pointHistoryRepository.insert(1L, 500L, TransactionType.CHARGE, 20L);
+
+        PointSnapshotService restarted = newService(pointSnapshotStore);
+        restarted.start();
+
+        assertEquals(1L, restarted.latestSnapshot().lastHistoryId());
+        PointSnapshot snapshot = restarted.takeSnapshot();
+        assertEquals(1500L, snapshot.point(snapshot.indexOf(1L)));
+    }
+
+    private PointSnapshotService newService(PointSnapshotStore pointSnapshotStore) {
+        return new PointSnapshotService(pointHistoryRepository, userPointRepository, pointHistoryWriter, pointSnapshotStore, Duration.ZERO);
+    }
+
+    private static class HistoryRepository implements PointHistoryRepository {
+
+        private final AtomicLong cursor = new AtomicLong(1);
+        private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+        private final List<Long> pagedUserIds = new ArrayList<>();
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            pointHistoryIndex.append(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return pointHistoryIndex.findAllByUserId(userId);
+        }
+
+        @Override
+        public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+            pagedUserIds.add(userId);
+            return pointHistoryIndex.findPageByUserId(userId, condition);
+        }
+
+        @Override
+        public List<Long> selectUserIds() {
+            return pointHistoryIndex.findAllUserIds();
+        }
+
+        @Override
+        public long selectLastId() {
+            return pointHistoryIndex.lastId();
+        }
+
+        @Override
+        public List<Long> drainUpdatedUserIds(long lastHistoryId) {
+            return pointHistoryIndex.drainUpdatedUserIds(lastHistoryId);
+        }
+    }
+}
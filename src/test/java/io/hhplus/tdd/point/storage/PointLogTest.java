@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다시 열면 추가한 레코드를 순서대로 복구")
+    void testReplay() throws InterruptedException {
+        PointLog pointLog = new PointLog(directory, "test", 100, record -> {});
+        pointLog.append(1L, 1000L, 10L, (byte) 0);
+        pointLog.append(2L, 2000L, 20L, (byte) 1);
+        pointLog.close();
+
+        List<PointLogRecord> records = new ArrayList<>();
+        PointLog reopened = new PointLog(directory, "test", 100, records::add);
+
+        assertEquals(List.of(
+                new PointLogRecord(1L, 1L, 1000L, 10L, (byte) 0),
+                new PointLogRecord(2L, 2L, 2000L, 20L, (byte) 1)), records);
+        assertEquals(3L, reopened.append(3L, 3000L, 30L, (byte) 0));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트 파일에 기록")
+    void testSegmentRolling() throws Exception {
+        PointLog pointLog = new PointLog(directory, "test", 4, record -> {});
+        for (long i = 1; i <= 10; i++) {
+            pointLog.append(i, i * 100, i, (byte) 0);
+        }
+        pointLog.close();
+
+        assertEquals(3, segmentCount());
+        assertEquals(4 * PointLog.RECORD_SIZE, Files.size(directory.resolve("test-00000000.seg")));
+
+        List<PointLogRecord> records = new ArrayList<>();
+        new PointLog(directory, "test", 4, records::add).close();
+        assertEquals(10, records.size());
+        assertEquals(10L, records.get(9).sequence());
+    }
+
+    @Test
+    @DisplayName("손상된 레코드 이후는 복구하지 않고 삭제한 뒤 이어서 기록")
+    void testRecoverFromTornRecord() throws Exception {
+        PointLog pointLog = new PointLog(directory, "test", 4, record -> {});
+        for (long i = 1; i <= 6; i++) {
+            pointLog.append(i, i * 100, i, (byte) 0);
+        }
+        pointLog.close();
+
+        // 세 번째 레코드의 금액을 덮어써 CRC 가 맞지 않도록 함 (쓰기 도중 종료된 상황)
+        try (FileChannel channel = FileChannel.open(directory.resolve("test-00000000.seg"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 999L), 2L * PointLog.RECORD_SIZE + 16);
+        }
+
+        List<PointLogRecord> records = new ArrayList<>();
+        PointLog recovered = new PointLog(directory, "test", 4, records::add);
+        assertEquals(2, records.size());
+        assertEquals(1, segmentCount());
+        assertEquals(3L, recovered.append(7L, 700L, 7L, (byte) 0));
+        recovered.close();
+
+        records.clear();
+        new PointLog(directory, "test", 4, records::add).close();
+        assertEquals(List.of(1L, 2L, 7L), records.stream().map(PointLogRecord::userId).toList());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가하고 반영을 기다려도 모두 반영")
+    void testGroupCommit() throws Exception {
+        PointLog pointLog = new PointLog(directory, "test", 1000, record -> {});
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long userId = i;
+            futures.add(CompletableFuture.runAsync(() -> pointLog.awaitDurable(pointLog.append(userId, 100L, 0L, (byte) 0)), executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        executorService.shutdown();
+        pointLog.close();
+
+        List<PointLogRecord> records = new ArrayList<>();
+        new PointLog(directory, "test", 1000, records::add).close();
+        assertEquals(200, records.size());
+    }
+
+    @Test
+    @DisplayName("세그먼트 크기가 매핑할 수 있는 범위(int)를 넘으면 열지 않음")
+    void testRejectOversizedSegment() throws IOException {
+        int recordsPerSegment = Integer.MAX_VALUE / PointLog.RECORD_SIZE + 1;
+
+        assertThrows(RuntimeException.class, () -> new PointLog(directory, "test", recordsPerSegment, record -> {}));
+        assertEquals(0, segmentCount());
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+}
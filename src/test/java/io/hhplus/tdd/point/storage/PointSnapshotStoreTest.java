@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 스냅샷을 그대로 읽고 최근 스냅샷만 보관")
+    void testSaveAndLoad() throws IOException {
+        PointSnapshotStore pointSnapshotStore = new PointSnapshotStore(directory);
+        for (long lastHistoryId = 1; lastHistoryId <= 3; lastHistoryId++) {
+            pointSnapshotStore.save(new PointSnapshot.Builder(lastHistoryId, 100L, 2)
+                    .add(1L, 1000L * lastHistoryId, 10L)
+                    .add(7L, 500L, 20L)
+                    .build());
+        }
+
+        PointSnapshot snapshot = pointSnapshotStore.loadLatest();
+
+        assertEquals(3L, snapshot.lastHistoryId());
+        assertEquals(2, snapshot.size());
+        assertEquals(3000L, snapshot.point(snapshot.indexOf(1L)));
+        assertEquals(20L, snapshot.updateMillis(snapshot.indexOf(7L)));
+        assertTrue(snapshot.indexOf(2L) < 0);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("최신 스냅샷 파일이 손상되면 이전 스냅샷을 사용")
+    void testFallbackToPreviousSnapshot() throws IOException {
+        PointSnapshotStore pointSnapshotStore = new PointSnapshotStore(directory);
+        pointSnapshotStore.save(new PointSnapshot.Builder(1L, 100L, 1).add(1L, 1000L, 10L).build());
+        Path latest = pointSnapshotStore.save(new PointSnapshot.Builder(2L, 200L, 1).add(1L, 2000L, 20L).build());
+
+        byte[] bytes = Files.readAllBytes(latest);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(latest, bytes);
+
+        PointSnapshot snapshot = pointSnapshotStore.loadLatest();
+        assertEquals(1L, snapshot.lastHistoryId());
+        assertEquals(1000L, snapshot.point(snapshot.indexOf(1L)));
+    }
+
+    @Test
+    @DisplayName("헤더의 유저 수가 파일 크기와 맞지 않으면 배열을 만들지 않고 이전 스냅샷을 사용")
+    void testRejectSizeMismatch() throws IOException {
+        PointSnapshotStore pointSnapshotStore = new PointSnapshotStore(directory);
+        pointSnapshotStore.save(new PointSnapshot.Builder(1L, 100L, 1).add(1L, 1000L, 10L).build());
+        Path latest = pointSnapshotStore.save(new PointSnapshot.Builder(2L, 200L, 1).add(1L, 2000L, 20L).build());
+
+        // 유저 수 (magic, version, lastHistoryId, createdMillis 다음) 를 Integer.MAX_VALUE 로 변경
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(latest));
+        bytes.putInt(24, Integer.MAX_VALUE);
+        Files.write(latest, bytes.array());
+
+        PointSnapshot snapshot = pointSnapshotStore.loadLatest();
+        assertEquals(1L, snapshot.lastHistoryId());
+    }
+}